@@ -0,0 +1,103 @@
+package ktb.community.be.benchmark;
+
+import ktb.community.be.domain.comment.domain.PostComment;
+import ktb.community.be.domain.image.domain.PostImage;
+import ktb.community.be.domain.image.domain.RankKey;
+import ktb.community.be.domain.member.domain.Authority;
+import ktb.community.be.domain.member.domain.Member;
+import ktb.community.be.domain.post.domain.Post;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 엔티티 생성 (DB 없이, 생성/수정 시각은 리플렉션으로 채움)
+ */
+public final class BenchmarkFixtures {
+
+    static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private BenchmarkFixtures() {
+    }
+
+    static Member member(long id) {
+        Member member = Member.builder()
+                .id(id)
+                .email("member" + id + "@test.com")
+                .password("password")
+                .nickname("member" + id)
+                .profileImageUrl("/uploads/profiles/" + id + ".png")
+                .authority(Authority.ROLE_USER)
+                .isActive(true)
+                .build();
+        return timestamped(member, BASE_TIME);
+    }
+
+    static Post post(long id, Member writer) {
+        Post post = Post.builder()
+                .id(id)
+                .member(writer)
+                .title("benchmark post " + id)
+                .content("content ".repeat(200))
+                .viewCount(1234)
+                .commentCount(0)
+                .build();
+        return timestamped(post, BASE_TIME);
+    }
+
+    static List<PostImage> images(Post post, Member writer, int count) {
+        List<String> keys = RankKey.sequence(count);
+        List<PostImage> images = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            images.add(timestamped(PostImage.builder()
+                    .id((long) i + 1)
+                    .post(post)
+                    .member(writer)
+                    .imageUrl("/uploads/posts/" + i + ".png")
+                    .orderIndex(i)
+                    .rankKey(keys.get(i))
+                    .build(), BASE_TIME));
+        }
+        return images;
+    }
+
+    /**
+     * 댓글 트리 모양
+     * - FLAT: 전부 원댓글
+     * - DEEP: 직전 댓글에 대한 답글이 계속 이어지는 한 줄 (최상위 부모 탐색 비용이 가장 큼)
+     * - WIDE: 원댓글 10개에 나머지가 무작위로 달린 답글
+     */
+    public enum TreeShape {
+        FLAT, DEEP, WIDE
+    }
+
+    static List<PostComment> comments(Post post, List<Member> members, int count, TreeShape shape) {
+        Random random = new Random(42);
+        List<PostComment> comments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            PostComment parent = switch (shape) {
+                case FLAT -> null;
+                case DEEP -> i == 0 ? null : comments.get(i - 1);
+                case WIDE -> i < 10 ? null : comments.get(random.nextInt(10));
+            };
+            comments.add(timestamped(PostComment.builder()
+                    .id((long) i + 1)
+                    .post(post)
+                    .member(members.get(i % members.size()))
+                    .parentComment(parent)
+                    .content("comment " + i)
+                    .isDeleted(i % 17 == 0)
+                    .build(), BASE_TIME.plusSeconds(random.nextInt(1_000_000))));
+        }
+        return comments;
+    }
+
+    static <T> T timestamped(T entity, LocalDateTime time) {
+        ReflectionTestUtils.setField(entity, "createdAt", time);
+        ReflectionTestUtils.setField(entity, "updatedAt", time);
+        return entity;
+    }
+}
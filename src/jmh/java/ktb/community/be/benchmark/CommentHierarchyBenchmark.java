@@ -0,0 +1,42 @@
+package ktb.community.be.benchmark;
+
+import ktb.community.be.domain.comment.domain.PostComment;
+import ktb.community.be.domain.comment.dto.CommentResponseDto;
+import ktb.community.be.domain.member.domain.Member;
+import ktb.community.be.domain.post.domain.Post;
+import ktb.community.be.global.util.CommentHierarchyBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * 댓글 계층 구성 (게시글 상세 조회마다 실행)
+ */
+@State(Scope.Benchmark)
+public class CommentHierarchyBenchmark {
+
+    @Param({"FLAT", "DEEP", "WIDE"})
+    private BenchmarkFixtures.TreeShape shape;
+
+    @Param({"100", "1000"})
+    private int commentCount;
+
+    private List<PostComment> comments;
+
+    @Setup
+    public void setUp() {
+        List<Member> members = LongStream.rangeClosed(1, 20).mapToObj(BenchmarkFixtures::member).toList();
+        Post post = BenchmarkFixtures.post(1, members.get(0));
+        comments = BenchmarkFixtures.comments(post, members, commentCount, shape);
+    }
+
+    @Benchmark
+    public List<CommentResponseDto> buildCommentHierarchy() {
+        return CommentHierarchyBuilder.buildCommentHierarchy(comments);
+    }
+}
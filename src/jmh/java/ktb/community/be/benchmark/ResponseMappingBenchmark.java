@@ -0,0 +1,73 @@
+package ktb.community.be.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ktb.community.be.domain.comment.domain.PostComment;
+import ktb.community.be.domain.comment.dto.CommentResponseDto;
+import ktb.community.be.domain.image.domain.PostImage;
+import ktb.community.be.domain.member.domain.Member;
+import ktb.community.be.domain.post.domain.Post;
+import ktb.community.be.domain.post.dto.PostDetailResponseDto;
+import ktb.community.be.domain.post.dto.PostListResponseDto;
+import ktb.community.be.global.response.ApiResponse;
+import ktb.community.be.global.util.CommentHierarchyBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * 응답 DTO 변환과 ApiResponse JSON 직렬화 (Spring MVC 와 같은 ObjectMapper 설정)
+ * - 상세: 이미지 10장 + 댓글 100개, 목록: 게시글 10개
+ */
+@State(Scope.Benchmark)
+public class ResponseMappingBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Post post;
+    private List<PostImage> images;
+    private PostComment comment;
+    private ApiResponse<PostDetailResponseDto> detailResponse;
+    private ApiResponse<List<PostListResponseDto>> listResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<Member> members = LongStream.rangeClosed(1, 20).mapToObj(BenchmarkFixtures::member).toList();
+        post = BenchmarkFixtures.post(1, members.get(0));
+        images = BenchmarkFixtures.images(post, members.get(0), 10);
+        List<PostComment> comments = BenchmarkFixtures.comments(post, members, 100, BenchmarkFixtures.TreeShape.WIDE);
+        comment = comments.get(50);
+
+        detailResponse = ApiResponse.success("게시글을 조회했습니다.",
+                PostDetailResponseDto.from(post, 42, images, CommentHierarchyBuilder.buildCommentHierarchy(comments)));
+        listResponse = ApiResponse.success("게시글 목록을 조회했습니다.", LongStream.rangeClosed(1, 10)
+                .mapToObj(id -> PostListResponseDto.from(BenchmarkFixtures.post(id, members.get((int) id)), 42))
+                .toList());
+    }
+
+    @Benchmark
+    public PostDetailResponseDto postDetailFrom() {
+        return PostDetailResponseDto.from(post, 42, images, List.of());
+    }
+
+    @Benchmark
+    public CommentResponseDto commentFrom() {
+        return CommentResponseDto.from(comment);
+    }
+
+    @Benchmark
+    public byte[] serializePostDetail() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(detailResponse);
+    }
+
+    @Benchmark
+    public byte[] serializePostList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(listResponse);
+    }
+}
@@ -0,0 +1,66 @@
+package ktb.community.be.benchmark;
+
+import ktb.community.be.domain.member.dao.MemberRepository;
+import ktb.community.be.domain.member.domain.Member;
+import ktb.community.be.global.security.TokenDto;
+import ktb.community.be.global.security.TokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.lang.reflect.Proxy;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JWT 발급/검증 (로그인, 재발급, 모든 인증 요청의 JwtFilter)
+ * - 회원 조회는 DB 없이 고정 회원을 돌려주는 저장소로 대체 → 토큰 처리 비용만 측정
+ */
+@State(Scope.Benchmark)
+public class TokenProviderBenchmark {
+
+    private TokenProvider tokenProvider;
+    private Authentication authentication;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        Member member = BenchmarkFixtures.member(1);
+        MemberRepository memberRepository = (MemberRepository) Proxy.newProxyInstance(
+                MemberRepository.class.getClassLoader(),
+                new Class<?>[]{MemberRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findById" -> Optional.of(member);
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "MemberRepository(benchmark)";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+
+        String secret = Base64.getEncoder().encodeToString("benchmark-secret-".repeat(8).getBytes());
+        tokenProvider = new TokenProvider(secret, memberRepository);
+        authentication = new UsernamePasswordAuthenticationToken("1", "",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        accessToken = tokenProvider.generateTokenDto(authentication, 1L).getAccessToken();
+    }
+
+    @Benchmark
+    public TokenDto generateTokenDto() {
+        return tokenProvider.generateTokenDto(authentication, 1L);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(accessToken);
+    }
+}
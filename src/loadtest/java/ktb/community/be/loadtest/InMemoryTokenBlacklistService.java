@@ -0,0 +1,32 @@
+package ktb.community.be.loadtest;
+
+import ktb.community.be.global.security.TokenBlacklistService;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis + Bloom Filter 대신 메모리에 보관하는 Access Token 블랙리스트 (부하 테스트 프로필 전용)
+ */
+public class InMemoryTokenBlacklistService extends TokenBlacklistService {
+
+    private final Map<String, Long> expiresAtByToken = new ConcurrentHashMap<>();
+
+    public InMemoryTokenBlacklistService() {
+        super(null, null);
+    }
+
+    @Override
+    public void blacklistAccessToken(String accessToken, long expirationTimeMillis) {
+        expiresAtByToken.put(accessToken, System.currentTimeMillis() + expirationTimeMillis);
+    }
+
+    @Override
+    public boolean isBlacklisted(String accessToken) {
+        Long expiresAt = expiresAtByToken.get(accessToken);
+        if (expiresAt == null) return false;
+        if (expiresAt > System.currentTimeMillis()) return true;
+        expiresAtByToken.remove(accessToken, expiresAt);
+        return false;
+    }
+}
@@ -0,0 +1,75 @@
+package ktb.community.be.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 한 동작(요청 종류)의 응답 시간 기록 → 처리량과 백분위 계산
+ * - 측정 구간의 모든 샘플을 보관 (수십만 건 규모에서는 정렬 한 번으로 정확한 백분위)
+ */
+public class LatencyRecorder {
+
+    /**
+     * 연결 실패 등 응답을 받지 못한 경우의 상태 값
+     */
+    public static final int NO_RESPONSE = -1;
+
+    private long[] samples = new long[1024];
+    private int size;
+    private long errors;
+    private final Map<Integer, Long> errorsByStatus = new TreeMap<>();
+
+    public synchronized void record(long latencyNanos, int status) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = latencyNanos;
+        if (status / 100 != 2) {
+            errors++;
+            errorsByStatus.merge(status, 1L, Long::sum);
+        }
+    }
+
+    public synchronized Summary summarize(String operation, double elapsedSeconds) {
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        return new Summary(operation, size, errors, Map.copyOf(errorsByStatus), size / elapsedSeconds,
+                millis(percentile(sorted, 50)), millis(percentile(sorted, 90)), millis(percentile(sorted, 99)),
+                millis(percentile(sorted, 99.9)), millis(size == 0 ? 0 : sorted[size - 1]));
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    public record Summary(String operation, long requests, long errors, Map<Integer, Long> errorsByStatus, double throughput,
+                          double p50Millis, double p90Millis, double p99Millis, double p999Millis, double maxMillis) {
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("operation", operation);
+            map.put("requests", requests);
+            map.put("errors", errors);
+            map.put("errorsByStatus", errorsByStatus);
+            map.put("throughputPerSecond", round(throughput));
+            map.put("p50Ms", round(p50Millis));
+            map.put("p90Ms", round(p90Millis));
+            map.put("p99Ms", round(p99Millis));
+            map.put("p999Ms", round(p999Millis));
+            map.put("maxMs", round(maxMillis));
+            return map;
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 100) / 100.0;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package ktb.community.be.loadtest;
+
+import ktb.community.be.global.job.JobLeaseManager;
+import ktb.community.be.global.job.JobLeaseRepository;
+import ktb.community.be.global.security.TokenBlacklistService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 부하 테스트 프로필에서 외부 인프라(Redis, RedisBloom)와 배경 작업 대신 사용할 빈
+ */
+@Configuration
+@Profile("loadtest")
+public class LoadTestConfig {
+
+    @Bean
+    @Primary
+    public TokenBlacklistService inMemoryTokenBlacklistService() {
+        return new InMemoryTokenBlacklistService();
+    }
+
+    @Bean
+    @Primary
+    public JobLeaseManager skippingJobLeaseManager(JobLeaseRepository jobLeaseRepository,
+                                                   PlatformTransactionManager transactionManager) {
+        return new SkippingJobLeaseManager(jobLeaseRepository, transactionManager);
+    }
+}
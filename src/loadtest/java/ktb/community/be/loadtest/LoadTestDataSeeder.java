@@ -0,0 +1,111 @@
+package ktb.community.be.loadtest;
+
+import ktb.community.be.domain.comment.dao.PostCommentRepository;
+import ktb.community.be.domain.comment.domain.PostComment;
+import ktb.community.be.domain.member.dao.MemberRepository;
+import ktb.community.be.domain.member.domain.Authority;
+import ktb.community.be.domain.member.domain.Member;
+import ktb.community.be.domain.post.dao.PostRepository;
+import ktb.community.be.domain.post.domain.Post;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 부하 테스트 시작 전 회원/게시글/댓글을 채움 (청크 단위 saveAll → JDBC 배치 INSERT)
+ */
+public class LoadTestDataSeeder {
+
+    public static final String PASSWORD = "Loadtest1!";
+    private static final int CHUNK_SIZE = 500;
+
+    private final MemberRepository memberRepository;
+    private final PostRepository postRepository;
+    private final PostCommentRepository postCommentRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final Random random = new Random(42);
+
+    public LoadTestDataSeeder(ApplicationContext context) {
+        this.memberRepository = context.getBean(MemberRepository.class);
+        this.postRepository = context.getBean(PostRepository.class);
+        this.postCommentRepository = context.getBean(PostCommentRepository.class);
+        this.passwordEncoder = context.getBean(PasswordEncoder.class);
+        this.transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    public static String emailOf(int index) {
+        return "loadtest" + index + "@test.com";
+    }
+
+    /**
+     * @return 생성한 게시글 ID (생성 순서)
+     */
+    public List<Long> seed(int memberCount, int postCount, int commentsPerPost) {
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+        List<Member> members = new ArrayList<>(memberCount);
+        for (int start = 0; start < memberCount; start += CHUNK_SIZE) {
+            int from = start;
+            int to = Math.min(memberCount, start + CHUNK_SIZE);
+            members.addAll(transactionTemplate.execute(status -> {
+                List<Member> chunk = new ArrayList<>(to - from);
+                for (int i = from; i < to; i++) {
+                    chunk.add(Member.builder()
+                            .email(emailOf(i))
+                            .password(encodedPassword)
+                            .nickname("loadtest" + i)
+                            .profileImageUrl("/uploads/profiles/default.png")
+                            .authority(Authority.ROLE_USER)
+                            .isActive(true)
+                            .build());
+                }
+                return memberRepository.saveAll(chunk);
+            }));
+        }
+
+        List<Long> postIds = new ArrayList<>(postCount);
+        for (int start = 0; start < postCount; start += CHUNK_SIZE) {
+            int from = start;
+            int to = Math.min(postCount, start + CHUNK_SIZE);
+            postIds.addAll(transactionTemplate.execute(status -> seedPosts(members, from, to, commentsPerPost)));
+        }
+        return postIds;
+    }
+
+    private List<Long> seedPosts(List<Member> members, int from, int to, int commentsPerPost) {
+        List<Post> posts = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            posts.add(Post.builder()
+                    .member(members.get(random.nextInt(members.size())))
+                    .title("부하 테스트 게시글 " + i)
+                    .content("본문 ".repeat(50 + random.nextInt(200)))
+                    .viewCount(0)
+                    .commentCount(commentsPerPost)
+                    .build());
+        }
+        postRepository.saveAll(posts);
+
+        List<PostComment> comments = new ArrayList<>(posts.size() * commentsPerPost);
+        for (Post post : posts) {
+            List<PostComment> postComments = new ArrayList<>(commentsPerPost);
+            for (int c = 0; c < commentsPerPost; c++) {
+                // 약 1/3 은 앞 댓글에 대한 답글
+                PostComment parent = c > 0 && random.nextInt(3) == 0 ? postComments.get(random.nextInt(c)) : null;
+                postComments.add(PostComment.builder()
+                        .post(post)
+                        .member(members.get(random.nextInt(members.size())))
+                        .parentComment(parent)
+                        .content("댓글 " + c)
+                        .build());
+            }
+            comments.addAll(postComments);
+        }
+        postCommentRepository.saveAll(comments);
+        return posts.stream().map(Post::getId).toList();
+    }
+}
@@ -0,0 +1,57 @@
+package ktb.community.be.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 옵션 (--key=value 형식, 지정하지 않으면 기본값)
+ * - --duration=PT30S --warmup=PT5S --users=50
+ * - --mix=feed:50,detail:30,like:15,login:5 (시나리오별 가중치)
+ * - --members=200 --posts=1000 --comments-per-post=20 (미리 채울 데이터 규모)
+ * - --report=build/loadtest/report.json
+ */
+public record LoadTestOptions(Duration duration,
+                              Duration warmup,
+                              int users,
+                              Map<Scenario, Integer> mix,
+                              int members,
+                              int posts,
+                              int commentsPerPost,
+                              Path report) {
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new java.util.HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("--key=value 형식이어야 합니다: " + arg);
+            }
+            int split = arg.indexOf('=');
+            values.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                Duration.parse(values.getOrDefault("duration", "PT30S")),
+                Duration.parse(values.getOrDefault("warmup", "PT5S")),
+                Integer.parseInt(values.getOrDefault("users", "50")),
+                parseMix(values.getOrDefault("mix", "feed:50,detail:30,like:15,login:5")),
+                Integer.parseInt(values.getOrDefault("members", "200")),
+                Integer.parseInt(values.getOrDefault("posts", "1000")),
+                Integer.parseInt(values.getOrDefault("comments-per-post", "20")),
+                Path.of(values.getOrDefault("report", "build/loadtest/report.json")));
+        if (options.users() > options.members()) {
+            throw new IllegalArgumentException("users 는 members 보다 클 수 없습니다 (가상 사용자마다 다른 회원으로 로그인)");
+        }
+        return options;
+    }
+
+    private static Map<Scenario, Integer> parseMix(String mix) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split(":");
+            weights.put(Scenario.fromName(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
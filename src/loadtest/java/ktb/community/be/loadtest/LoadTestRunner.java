@@ -0,0 +1,124 @@
+package ktb.community.be.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import ktb.community.be.BeApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내장 DB(H2, MySQL 모드) 프로필로 애플리케이션을 띄우고 실제 컨트롤러에 혼합 부하를 주는 드라이버
+ * - 실행: ./gradlew loadTest -PloadtestArgs="--duration=PT60S --users=100"
+ * - 준비(데이터 생성) → 워밍업(기록 안 함) → 측정 → 동작별 처리량/백분위 출력 + JSON 보고서
+ * - 절대 수치는 H2/단일 JVM 기준이므로 같은 옵션으로 커밋 간 상대 비교에 사용
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BeApplication.class)
+                .profiles("loadtest")
+                .properties("server.port=0")
+                .run()) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            log.info("[데이터 준비] members={}, posts={}, comments/post={}",
+                    options.members(), options.posts(), options.commentsPerPost());
+            List<Long> postIds = new LoadTestDataSeeder(context)
+                    .seed(options.members(), options.posts(), options.commentsPerPost());
+
+            if (!options.warmup().isZero()) {
+                log.info("[워밍업] {}", options.warmup());
+                run(options, baseUrl, postIds, options.warmup());
+            }
+
+            log.info("[측정] {} x {}명, mix={}", options.duration(), options.users(), options.mix());
+            Map<Scenario, LatencyRecorder> recorders = run(options, baseUrl, postIds, options.duration());
+            report(options, recorders);
+        }
+    }
+
+    private static Map<Scenario, LatencyRecorder> run(LoadTestOptions options, String baseUrl,
+                                                      List<Long> postIds, Duration duration) throws InterruptedException {
+        Map<Scenario, LatencyRecorder> recorders = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            recorders.put(scenario, new LatencyRecorder());
+        }
+        Scenario[] weightedScenarios = weighted(options.mix());
+        ObjectMapper objectMapper = new ObjectMapper();
+        Instant deadline = Instant.now().plus(duration);
+
+        try (HttpClient httpClient = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(Duration.ofSeconds(5))
+                     .build();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.users(); i++) {
+                executor.submit(new VirtualUser(httpClient, objectMapper, baseUrl, LoadTestDataSeeder.emailOf(i),
+                        postIds, weightedScenarios, recorders, () -> Instant.now().isBefore(deadline)));
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        }
+        return recorders;
+    }
+
+    /**
+     * 가중치만큼 시나리오를 반복한 배열 (무작위 인덱스로 선택)
+     */
+    private static Scenario[] weighted(Map<Scenario, Integer> mix) {
+        List<Scenario> scenarios = new ArrayList<>();
+        mix.forEach((scenario, weight) -> {
+            for (int i = 0; i < weight; i++) scenarios.add(scenario);
+        });
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("mix 에 가중치가 1 이상인 시나리오가 필요합니다.");
+        }
+        return scenarios.toArray(Scenario[]::new);
+    }
+
+    private static void report(LoadTestOptions options, Map<Scenario, LatencyRecorder> recorders) throws IOException {
+        double elapsedSeconds = options.duration().toMillis() / 1000.0;
+        List<LatencyRecorder.Summary> summaries = new ArrayList<>();
+        recorders.forEach((scenario, recorder) -> summaries.add(recorder.summarize(scenario.label(), elapsedSeconds)));
+
+        StringBuilder table = new StringBuilder(String.format("%n%-8s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "op", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)"));
+        for (LatencyRecorder.Summary s : summaries) {
+            table.append(String.format("%-8s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", s.operation(), s.requests(),
+                    s.errors(), s.throughput(), s.p50Millis(), s.p90Millis(), s.p99Millis(), s.p999Millis(), s.maxMillis()));
+        }
+        summaries.stream()
+                .filter(s -> s.errors() > 0)
+                .forEach(s -> table.append(String.format("%-8s 오류 상태별: %s%n", s.operation(), s.errorsByStatus())));
+        log.info("[결과]{}", table);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("duration", options.duration().toString());
+        report.put("users", options.users());
+        report.put("mix", options.mix());
+        report.put("operations", summaries.stream().map(LatencyRecorder.Summary::toMap).toList());
+        Files.createDirectories(options.report().toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(options.report().toFile(), report);
+        log.info("[보고서] {}", options.report().toAbsolutePath());
+    }
+}
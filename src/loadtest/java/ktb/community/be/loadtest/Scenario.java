@@ -0,0 +1,34 @@
+package ktb.community.be.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 가상 사용자가 반복하는 행동
+ * - FEED: 목록 첫 페이지부터 cursorId 로 최대 5페이지 스크롤
+ * - DETAIL: 상세 조회 (상위 20% 게시글에 80% 집중)
+ * - LIKE: 한 게시글에 좋아요 토글 집중 (좋아요 폭주)
+ * - LOGIN: 로그인 (가상 사용자 시작 시 전원 동시 로그인 + 혼합 비율만큼 반복)
+ */
+public enum Scenario {
+    FEED("feed"),
+    DETAIL("detail"),
+    LIKE("like"),
+    LOGIN("login");
+
+    private final String label;
+
+    Scenario(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    static Scenario fromName(String name) {
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.label.equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 시나리오: " + name));
+    }
+}
@@ -0,0 +1,25 @@
+package ktb.community.be.loadtest;
+
+import ktb.community.be.global.job.JobLeaseHandle;
+import ktb.community.be.global.job.JobLeaseManager;
+import ktb.community.be.global.job.JobLeaseRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * 배경 작업(@Scheduled)을 실행하지 않는 리스 관리자 (부하 테스트 프로필 전용)
+ * - 측정 대상은 요청 경로뿐이고, 리스 SQL(FOR SHARE 등)은 MySQL 전용이라 H2 에서 실행되지 않음
+ */
+public class SkippingJobLeaseManager extends JobLeaseManager {
+
+    public SkippingJobLeaseManager(JobLeaseRepository jobLeaseRepository, PlatformTransactionManager transactionManager) {
+        super(jobLeaseRepository, transactionManager, "loadtest");
+    }
+
+    @Override
+    public boolean runExclusively(String jobName, Duration ttl, Consumer<JobLeaseHandle> job) {
+        return false;
+    }
+}
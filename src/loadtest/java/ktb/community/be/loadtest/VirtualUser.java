@@ -0,0 +1,115 @@
+package ktb.community.be.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 한 회원으로 로그인한 뒤 혼합 비율에 따라 시나리오를 반복하는 가상 사용자 (closed model, 생각 시간 없음)
+ */
+class VirtualUser implements Runnable {
+
+    private static final int FEED_PAGES = 5;
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final String email;
+    private final List<Long> postIds;
+    private final long hotPostId;
+    private final Scenario[] weightedScenarios;
+    private final Map<Scenario, LatencyRecorder> recorders;
+    private final BooleanSupplier running;
+    private String accessToken;
+
+    VirtualUser(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl, String email, List<Long> postIds,
+                Scenario[] weightedScenarios, Map<Scenario, LatencyRecorder> recorders, BooleanSupplier running) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.email = email;
+        this.postIds = postIds;
+        this.hotPostId = postIds.get(0);
+        this.weightedScenarios = weightedScenarios;
+        this.recorders = recorders;
+        this.running = running;
+    }
+
+    @Override
+    public void run() {
+        login();
+        while (running.getAsBoolean() && !Thread.currentThread().isInterrupted()) {
+            Scenario scenario = weightedScenarios[ThreadLocalRandom.current().nextInt(weightedScenarios.length)];
+            switch (scenario) {
+                case FEED -> scrollFeed();
+                case DETAIL -> viewDetail();
+                case LIKE -> send(Scenario.LIKE, authorized("/api/likes/" + hotPostId)
+                        .POST(HttpRequest.BodyPublishers.noBody()));
+                case LOGIN -> login();
+            }
+        }
+    }
+
+    private void login() {
+        String body = "{\"email\":\"" + email + "\",\"password\":\"" + LoadTestDataSeeder.PASSWORD + "\"}";
+        JsonNode response = send(Scenario.LOGIN, HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)));
+        if (response != null) {
+            accessToken = response.path("data").path("accessToken").asText();
+        }
+    }
+
+    private void scrollFeed() {
+        String cursor = "";
+        for (int page = 0; page < FEED_PAGES; page++) {
+            JsonNode response = send(Scenario.FEED, authorized("/api/posts?size=10" + cursor).GET());
+            if (response == null) return;
+            JsonNode posts = response.path("data");
+            if (posts.isEmpty()) return;
+            cursor = "&cursorId=" + posts.get(posts.size() - 1).path("id").asLong();
+        }
+    }
+
+    /**
+     * 상위 20% 게시글에 조회의 80% 집중
+     */
+    private void viewDetail() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int hotCount = Math.max(1, postIds.size() / 5);
+        int index = random.nextInt(10) < 8 ? random.nextInt(hotCount) : random.nextInt(postIds.size());
+        send(Scenario.DETAIL, authorized("/api/posts/" + postIds.get(index)).GET());
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + accessToken);
+    }
+
+    /**
+     * 요청 한 건 실행 후 응답 시간 기록 (2xx 가 아니거나 예외면 오류로 집계, 응답 본문은 성공 시에만 반환)
+     */
+    private JsonNode send(Scenario scenario, HttpRequest.Builder request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            recorders.get(scenario).record(System.nanoTime() - start, response.statusCode());
+            return response.statusCode() / 100 == 2 ? objectMapper.readTree(response.body()) : null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (IOException e) {
+            recorders.get(scenario).record(System.nanoTime() - start, LatencyRecorder.NO_RESPONSE);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package ktb.community.be.loadtest.dataset;
+
+import ktb.community.be.domain.image.domain.RankKey;
+import ktb.community.be.global.domain.TimeSortedIds;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 규모 테스트용 대량 데이터 생성기 (JDBC 배치 INSERT 로 직접 적재)
+ * - 같은 seed/옵션이면 같은 데이터: ID 는 전용 노드 번호 + 행 번호로 결정하고, 난수는 게시글마다 seed 에서 파생
+ * - 인기도: 댓글/좋아요 수를 멱법칙(Popularity)으로 배분 → 소수 게시글에 몰림
+ * - 댓글: 일부는 같은 게시글의 앞선 댓글에 대한 답글 (계층 구조)
+ * - 이어서 실행: 청크(게시글 N개와 그 댓글/좋아요/이미지) 단위로 커밋하고 진행 파일에 기록
+ * 실행: ./gradlew generateDataset -PdatasetArgs="--jdbc-url=jdbc:mysql://localhost:3306/community --username=root --password=..."
+ */
+@Slf4j
+public class DatasetGenerator {
+
+    public static final String PASSWORD = "Dataset1!";
+
+    // 생성 데이터 전용 ID 노드 (서비스 인스턴스는 낮은 번호부터 사용)
+    private static final int MEMBER_NODE = 31;
+    private static final int POST_NODE = 30;
+    private static final int COMMENT_NODE = 29;
+    private static final int LIKE_NODE = 28;
+    private static final int IMAGE_NODE = 27;
+
+    // 게시글당 행 번호 구간 (구간 안에서 ID 가 겹치지 않도록 상한을 둠)
+    private static final int MAX_COMMENTS_PER_POST = 1_000;
+    private static final long COMMENT_SLOTS_PER_POST = 1_024;
+    private static final long LIKE_SLOTS_PER_POST = 1L << 20;
+    private static final int IMAGE_SLOTS_PER_POST = 8;
+
+    private static final int MEMBER_CHUNK = 10_000;
+    private static final double REPLY_RATIO = 0.3;
+    private static final String TEXT = "대량 데이터 생성기로 만든 본문입니다. 피드와 상세 조회, 좋아요와 댓글 부하를 재현하기 위한 문장을 반복합니다. ";
+
+    private final DatasetOptions options;
+    private final Popularity popularity;
+    private final DatasetProgress progress;
+    private final LocalDateTime start;
+    private final long spanMillis;
+    private final long likeStep;
+
+    DatasetGenerator(DatasetOptions options, DatasetProgress progress) throws IOException {
+        this.options = options;
+        this.popularity = new Popularity(options.posts(), options.skew());
+        this.progress = progress;
+        LocalDateTime end = progress.end(LocalDateTime.now().truncatedTo(ChronoUnit.DAYS));
+        this.start = end.minusDays(options.days());
+        this.spanMillis = Duration.between(start, end).toMillis();
+        this.likeStep = coprimeStep(options.members());
+    }
+
+    public static void main(String[] args) throws Exception {
+        DatasetOptions options = DatasetOptions.parse(args);
+        if (options.imagesPerPost() * 2 > IMAGE_SLOTS_PER_POST) {
+            throw new IllegalArgumentException("--images-per-post 는 " + IMAGE_SLOTS_PER_POST / 2 + " 이하여야 합니다.");
+        }
+        DatasetProgress progress = DatasetProgress.load(options.progressFile(), options.fingerprint());
+
+        try (Connection connection = DriverManager.getConnection(options.jdbcUrl(), options.username(), options.password())) {
+            connection.setAutoCommit(false);
+            DatasetGenerator generator = new DatasetGenerator(options, progress);
+            generator.generateMembers(connection);
+            generator.generatePosts(connection);
+        }
+        log.info("[완료] 진행 파일: {}", options.progressFile().toAbsolutePath());
+    }
+
+    void generateMembers(Connection connection) throws Exception {
+        String encodedPassword = new BCryptPasswordEncoder().encode(PASSWORD);
+        long total = options.members();
+        long startedAt = System.nanoTime();
+
+        for (long from = progress.membersDone(); from < total; from += MEMBER_CHUNK) {
+            long to = Math.min(total, from + MEMBER_CHUNK);
+            try (Batch members = new Batch(connection, options.batchSize(),
+                    "INSERT IGNORE INTO member (id, email, password, nickname, profile_image_url, authority, " +
+                            "is_active, is_deleted, created_at, updated_at) VALUES (?, ?, ?, ?, ?, 'ROLE_USER', 1, 0, ?, ?)")) {
+                for (long i = from; i < to; i++) {
+                    // 모든 회원은 첫 게시글보다 먼저 가입
+                    Timestamp createdAt = Timestamp.valueOf(start.minusSeconds(total - i));
+                    members.add(id(MEMBER_NODE, i), emailOf(i), encodedPassword, "ds" + i,
+                            "/uploads/profiles/default.png", createdAt, createdAt);
+                }
+                members.flush();
+            }
+            connection.commit();
+            progress.markMembers(to);
+            logProgress("회원", to, total, startedAt);
+        }
+    }
+
+    void generatePosts(Connection connection) throws Exception {
+        long total = options.posts();
+        long startedAt = System.nanoTime();
+
+        for (long from = progress.postsDone(); from < total; from += options.chunkPosts()) {
+            long to = Math.min(total, from + options.chunkPosts());
+            try (Batch posts = new Batch(connection, options.batchSize(),
+                    "INSERT IGNORE INTO post (id, member_id, title, content, view_count, comment_count, " +
+                            "is_deleted, cascade_pending, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, 0, 0, ?, ?)");
+                 Batch comments = new Batch(connection, options.batchSize(),
+                         "INSERT IGNORE INTO post_comment (id, post_id, member_id, parent_comment_id, content, " +
+                                 "is_deleted, created_at, updated_at) VALUES (?, ?, ?, ?, ?, 0, ?, ?)");
+                 Batch likes = new Batch(connection, options.batchSize(),
+                         "INSERT IGNORE INTO post_like (id, post_id, member_id, is_deleted, created_at, updated_at) " +
+                                 "VALUES (?, ?, ?, 0, ?, ?)");
+                 Batch images = new Batch(connection, options.batchSize(),
+                         "INSERT IGNORE INTO post_image (id, post_id, member_id, image_url, order_index, rank_key, " +
+                                 "is_deleted, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?)")) {
+                // 자식 행보다 게시글이 먼저 들어가야 하므로 어느 배치가 차든 게시글부터 함께 보냄
+                List<Batch> ordered = List.of(posts, comments, likes, images);
+                for (long i = from; i < to; i++) {
+                    writePost(i, posts, comments, likes, images);
+                    if (ordered.stream().anyMatch(Batch::isFull)) {
+                        for (Batch batch : ordered) batch.flush();
+                    }
+                }
+                for (Batch batch : ordered) batch.flush();
+            }
+            connection.commit();
+            progress.markPosts(to);
+            logProgress("게시글", to, total, startedAt);
+        }
+    }
+
+    private void writePost(long postIndex, Batch posts, Batch comments, Batch likes, Batch images) throws SQLException {
+        SplittableRandom random = new SplittableRandom(options.seed() ^ (postIndex * 0x9E3779B97F4A7C15L));
+        long postId = id(POST_NODE, postIndex);
+        long authorId = id(MEMBER_NODE, random.nextLong(options.members()));
+        LocalDateTime createdAt = start.plus(Duration.ofMillis(spanMillis * postIndex / options.posts()));
+
+        int commentCount = (int) Math.min(MAX_COMMENTS_PER_POST,
+                round(popularity.expectedShare(postIndex, options.comments()), random));
+        int likeCount = (int) Math.min(Math.min(options.members(), LIKE_SLOTS_PER_POST),
+                round(popularity.expectedShare(postIndex, options.likes()), random));
+
+        Timestamp postTime = Timestamp.valueOf(createdAt);
+        posts.add(postId, authorId, "게시글 " + postIndex, text(random), likeCount * 10L + random.nextInt(100),
+                commentCount, postTime, postTime);
+
+        for (int j = 0; j < commentCount; j++) {
+            long commentId = id(COMMENT_NODE, postIndex * COMMENT_SLOTS_PER_POST + j);
+            Long parentId = j > 0 && random.nextDouble() < REPLY_RATIO
+                    ? id(COMMENT_NODE, postIndex * COMMENT_SLOTS_PER_POST + random.nextInt(j))
+                    : null;
+            Timestamp commentTime = Timestamp.valueOf(createdAt.plusMinutes(j + 1L));
+            comments.add(commentId, postId, id(MEMBER_NODE, random.nextLong(options.members())), parentId,
+                    "댓글 " + j, commentTime, commentTime);
+        }
+
+        // 좋아요는 (시작 + t * step) mod 회원 수 → 게시글 안에서 회원이 겹치지 않음
+        long firstMember = random.nextLong(options.members());
+        for (int t = 0; t < likeCount; t++) {
+            long memberIndex = Math.floorMod(firstMember + t * likeStep, options.members());
+            Timestamp likeTime = Timestamp.valueOf(createdAt.plusSeconds(t + 1L));
+            likes.add(id(LIKE_NODE, postIndex * LIKE_SLOTS_PER_POST + t), postId, id(MEMBER_NODE, memberIndex),
+                    likeTime, likeTime);
+        }
+
+        int imageCount = random.nextInt(options.imagesPerPost() * 2 + 1);
+        List<String> rankKeys = RankKey.sequence(imageCount);
+        for (int t = 0; t < imageCount; t++) {
+            long imageId = id(IMAGE_NODE, postIndex * IMAGE_SLOTS_PER_POST + t);
+            images.add(imageId, postId, authorId, "/uploads/posts/dataset/" + imageId + ".jpg", t, rankKeys.get(t),
+                    postTime, postTime);
+        }
+    }
+
+    static String emailOf(long index) {
+        return "dataset" + index + "@test.com";
+    }
+
+    /**
+     * 행 번호 → ID (2025-01-01 부터 1ms 당 128개씩 채움 → 실제 서비스에서 발급한 ID 보다 항상 작음)
+     */
+    static long id(int node, long index) {
+        return TimeSortedIds.compose(TimeSortedIds.EPOCH_MILLIS + index / TimeSortedIds.SEQUENCES_PER_MILLI, node,
+                (int) (index % TimeSortedIds.SEQUENCES_PER_MILLI));
+    }
+
+    /**
+     * 기대값을 확률적으로 반올림 (2.3 → 30% 확률로 3, 아니면 2) → 전체 합이 기대 총량에 가까움
+     */
+    private static long round(double expected, SplittableRandom random) {
+        long floor = (long) expected;
+        return floor + (random.nextDouble() < expected - floor ? 1 : 0);
+    }
+
+    private static String text(SplittableRandom random) {
+        int length = 50 + random.nextInt(450);
+        StringBuilder builder = new StringBuilder(length + TEXT.length());
+        while (builder.length() < length) builder.append(TEXT);
+        return builder.substring(0, length);
+    }
+
+    /**
+     * 회원 수와 서로소인 보폭 (회원 수의 대략 황금비 지점부터 탐색)
+     */
+    private static long coprimeStep(long members) {
+        if (members <= 1) return 1;
+        long step = Math.max(1, (long) (members * 0.618));
+        while (gcd(step, members) != 1) step++;
+        return step;
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    private void logProgress(String label, long done, long total, long startedAt) {
+        double seconds = Math.max(1e-3, (System.nanoTime() - startedAt) / 1e9);
+        log.info("[{}] {}/{} ({}%), {}/s", label, done, total, done * 100 / Math.max(1, total), Math.round(done / seconds));
+    }
+
+    /**
+     * batchSize 개씩 모아서 executeBatch (rewriteBatchedStatements 로 여러 행 INSERT 한 문장이 됨)
+     */
+    private static class Batch implements AutoCloseable {
+
+        private final PreparedStatement statement;
+        private final int batchSize;
+        private int pending;
+
+        Batch(Connection connection, int batchSize, String sql) throws SQLException {
+            this.statement = connection.prepareStatement(sql);
+            this.batchSize = batchSize;
+        }
+
+        void add(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                statement.setObject(i + 1, values[i]);
+            }
+            statement.addBatch();
+            pending++;
+        }
+
+        boolean isFull() {
+            return pending >= batchSize;
+        }
+
+        void flush() throws SQLException {
+            if (pending == 0) return;
+            statement.executeBatch();
+            pending = 0;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            statement.close();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package ktb.community.be.loadtest.dataset;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 대량 데이터 생성 옵션 (--key=value)
+ * - 접속: --jdbc-url=jdbc:mysql://localhost:3306/community --username=... --password=...
+ * - 규모: --members=1000000 --posts=10000000 --comments=50000000 --likes=100000000 --images-per-post=2
+ * - 분포: --seed=42 --skew=3.0 (클수록 소수 게시글에 좋아요/댓글 집중) --days=365 (작성 시각 분포 기간)
+ * - 진행: --chunk-posts=2000 --batch-size=5000 --progress=build/dataset/progress.properties
+ */
+public record DatasetOptions(String jdbcUrl,
+                             String username,
+                             String password,
+                             long seed,
+                             long members,
+                             long posts,
+                             long comments,
+                             long likes,
+                             int imagesPerPost,
+                             double skew,
+                             int days,
+                             int chunkPosts,
+                             int batchSize,
+                             Path progressFile) {
+
+    public static DatasetOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int split = arg.indexOf('=');
+            if (!arg.startsWith("--") || split < 0) {
+                throw new IllegalArgumentException("--key=value 형식이어야 합니다: " + arg);
+            }
+            values.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+        if (!values.containsKey("jdbc-url")) {
+            throw new IllegalArgumentException("--jdbc-url 이 필요합니다.");
+        }
+
+        return new DatasetOptions(
+                withBatchRewrite(values.get("jdbc-url")),
+                values.getOrDefault("username", "root"),
+                values.getOrDefault("password", ""),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Long.parseLong(values.getOrDefault("members", "100000")),
+                Long.parseLong(values.getOrDefault("posts", "1000000")),
+                Long.parseLong(values.getOrDefault("comments", "5000000")),
+                Long.parseLong(values.getOrDefault("likes", "10000000")),
+                Integer.parseInt(values.getOrDefault("images-per-post", "2")),
+                Double.parseDouble(values.getOrDefault("skew", "3.0")),
+                Integer.parseInt(values.getOrDefault("days", "365")),
+                Integer.parseInt(values.getOrDefault("chunk-posts", "2000")),
+                Integer.parseInt(values.getOrDefault("batch-size", "5000")),
+                Path.of(values.getOrDefault("progress", "build/dataset/progress.properties")));
+    }
+
+    /**
+     * 결과가 달라지는 옵션 (이어서 실행할 때 같아야 함)
+     */
+    String fingerprint() {
+        return String.join("/", String.valueOf(seed), String.valueOf(members), String.valueOf(posts),
+                String.valueOf(comments), String.valueOf(likes), String.valueOf(imagesPerPost),
+                String.valueOf(skew), String.valueOf(days));
+    }
+
+    /**
+     * MySQL 드라이버가 배치를 여러 행 INSERT 한 문장으로 보내도록 설정
+     */
+    private static String withBatchRewrite(String url) {
+        if (!url.startsWith("jdbc:mysql:") || url.contains("rewriteBatchedStatements")) return url;
+        return url + (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true";
+    }
+}
@@ -0,0 +1,86 @@
+package ktb.community.be.loadtest.dataset;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.Properties;
+
+/**
+ * 생성 진행 상황 파일 (청크 커밋 후에만 기록 → 중단 지점부터 이어서 실행)
+ * - fingerprint: 옵션이 바뀐 채로 이어 붙이면 분포가 섞이므로 다르면 거절
+ * - end: 작성 시각 기준일 (다른 날 이어서 실행해도 같은 시각으로 생성)
+ * - 커밋 직후 기록 전에 죽으면 해당 청크를 다시 넣게 되지만, ID 가 결정적이고 INSERT IGNORE 라서 중복 행은 생기지 않음
+ */
+class DatasetProgress {
+
+    private final Path file;
+    private final Properties properties = new Properties();
+
+    private DatasetProgress(Path file) {
+        this.file = file;
+    }
+
+    static DatasetProgress load(Path file, String fingerprint) throws IOException {
+        DatasetProgress progress = new DatasetProgress(file);
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                progress.properties.load(in);
+            }
+            String saved = progress.properties.getProperty("fingerprint");
+            if (!fingerprint.equals(saved)) {
+                throw new IllegalStateException("진행 파일의 옵션(" + saved + ")과 현재 옵션(" + fingerprint + ")이 다릅니다. "
+                        + "같은 옵션으로 실행하거나 진행 파일을 지우세요: " + file);
+            }
+        } else {
+            progress.properties.setProperty("fingerprint", fingerprint);
+        }
+        return progress;
+    }
+
+    /**
+     * 처음 실행할 때 정한 기준 시각 (없으면 now 로 정하고 기록)
+     */
+    LocalDateTime end(LocalDateTime now) throws IOException {
+        String saved = properties.getProperty("end");
+        if (saved != null) return LocalDateTime.parse(saved);
+        properties.setProperty("end", now.toString());
+        save();
+        return now;
+    }
+
+    long membersDone() {
+        return Long.parseLong(properties.getProperty("members.done", "0"));
+    }
+
+    long postsDone() {
+        return Long.parseLong(properties.getProperty("posts.done", "0"));
+    }
+
+    void markMembers(long done) throws IOException {
+        properties.setProperty("members.done", String.valueOf(done));
+        save();
+    }
+
+    void markPosts(long done) throws IOException {
+        properties.setProperty("posts.done", String.valueOf(done));
+        save();
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 교체 (쓰는 도중 죽어도 이전 진행 상황은 남음)
+     */
+    private void save() throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            properties.store(out, "dataset progress");
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,41 @@
+package ktb.community.be.loadtest.dataset;
+
+import java.math.BigInteger;
+
+/**
+ * 게시글 인기도 분포 (멱법칙)
+ * - 인기 순위 r 은 r = n * u^skew (u ~ U(0,1)) 로 뽑음 → skew 가 클수록 상위 순위에 집중
+ * - 순위 ↔ 게시글 번호는 곱셈 순열(n 과 서로소인 수를 곱한 나머지)로 섞어서 오래된 글만 인기 있는 편향을 없앰
+ * - 게시글별 기대 개수(댓글/좋아요)는 같은 분포의 밀도로 계산 → 생성 순서와 무관하게 결정적
+ */
+class Popularity {
+
+    private final long size;
+    private final double skew;
+    private final BigInteger modulus;
+    private final BigInteger inverse;
+
+    Popularity(long size, double skew) {
+        this.size = size;
+        this.skew = skew;
+        this.modulus = BigInteger.valueOf(size);
+        BigInteger candidate = BigInteger.valueOf(Integer.MAX_VALUE).mod(modulus);
+        while (size > 1 && !candidate.gcd(modulus).equals(BigInteger.ONE)) {
+            candidate = candidate.add(BigInteger.ONE).mod(modulus);
+        }
+        this.inverse = size > 1 ? candidate.modInverse(modulus) : BigInteger.ZERO;
+    }
+
+    long rankOf(long postIndex) {
+        return BigInteger.valueOf(postIndex).multiply(inverse).mod(modulus).longValue();
+    }
+
+    /**
+     * 전체 total 개 중 postIndex 게시글에 돌아갈 기대 개수
+     */
+    double expectedShare(long postIndex, long total) {
+        double position = (rankOf(postIndex) + 0.5) / size;
+        double density = Math.pow(position, 1 / skew - 1) / skew;
+        return total * density / size;
+    }
+}
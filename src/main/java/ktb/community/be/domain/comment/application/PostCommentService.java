@@ -10,6 +10,10 @@ import ktb.community.be.domain.member.dao.MemberRepository;
 import ktb.community.be.domain.member.domain.Member;
 import ktb.community.be.global.exception.CustomException;
 import ktb.community.be.global.exception.ErrorCode;
+import ktb.community.be.global.jfr.CommentHierarchyEvent;
+import ktb.community.be.global.metrics.LatencyTimed;
+import ktb.community.be.global.timing.ServerTiming;
+import ktb.community.be.global.timing.TimingPhase;
 import ktb.community.be.global.util.CommentHierarchyBuilder;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -18,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.*;
 
 @Service
+@LatencyTimed
 @RequiredArgsConstructor
 public class PostCommentService {
 
@@ -138,6 +143,14 @@ public class PostCommentService {
 
         List<PostComment> comments = postCommentRepository.findAllByPostId(postId);
 
-        return CommentHierarchyBuilder.buildCommentHierarchy(comments);
+        long startedAt = System.nanoTime();
+        CommentHierarchyEvent event = new CommentHierarchyEvent();
+        event.begin();
+        List<CommentResponseDto> hierarchy = CommentHierarchyBuilder.buildCommentHierarchy(comments);
+        event.postId = postId;
+        event.commentCount = comments.size();
+        event.commit();
+        ServerTiming.record(TimingPhase.TREE_BUILD, startedAt);
+        return hierarchy;
     }
 }
@@ -3,10 +3,12 @@ package ktb.community.be.domain.comment.dao;
 import ktb.community.be.domain.comment.domain.PostComment;
 import org.hibernate.annotations.BatchSize;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +28,22 @@ public interface PostCommentRepository extends JpaRepository<PostComment, Long>
     @BatchSize(size = 20)
     List<PostComment> findAllByPostId(@Param("postId") Long postId);
 
+    /**
+     * 게시글 삭제 시 댓글 일괄 Soft Delete
+     */
+    @Modifying
+    @Query("UPDATE PostComment c SET c.isDeleted = true, c.deletedAt = :now, c.updatedAt = :now " +
+            "WHERE c.post.id = :postId AND c.isDeleted = false")
+    int softDeleteAllByPostId(@Param("postId") Long postId, @Param("now") LocalDateTime now);
+
+    /**
+     * 게시글 삭제 시 댓글 Soft Delete (청크 단위, 비동기 정리용)
+     */
+    @Modifying
+    @Query(value = "UPDATE post_comment SET is_deleted = 1, deleted_at = :now, updated_at = :now " +
+            "WHERE post_id = :postId AND is_deleted = 0 LIMIT :limit", nativeQuery = true)
+    int softDeleteChunkByPostId(@Param("postId") Long postId, @Param("now") LocalDateTime now, @Param("limit") int limit);
+
     /**
      * 댓글 수 업데이트
      */
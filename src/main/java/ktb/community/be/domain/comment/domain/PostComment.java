@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import ktb.community.be.domain.post.domain.Post;
 import ktb.community.be.domain.member.domain.Member;
 import ktb.community.be.global.domain.BaseTimeEntity;
+import ktb.community.be.global.domain.TimeSortedId;
 import lombok.*;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
@@ -23,7 +24,7 @@ import java.util.List;
 public class PostComment extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeSortedId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
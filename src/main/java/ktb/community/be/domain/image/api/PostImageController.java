@@ -5,9 +5,14 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import ktb.community.be.domain.image.application.PostImageService;
+import ktb.community.be.domain.image.dto.PostImageAttachRequestDto;
+import ktb.community.be.domain.image.dto.PostImageMoveRequestDto;
 import ktb.community.be.domain.image.dto.PostImageOrderUpdateRequestDto;
 import ktb.community.be.domain.post.application.PostService;
 import ktb.community.be.domain.post.domain.Post;
+import ktb.community.be.domain.upload.application.UploadService;
+import ktb.community.be.domain.upload.domain.UploadPurpose;
+import ktb.community.be.domain.upload.dto.UploadTokenResponseDto;
 import ktb.community.be.global.response.ApiResponse;
 import ktb.community.be.global.security.SecurityUtil;
 import lombok.RequiredArgsConstructor;
@@ -25,9 +30,14 @@ public class PostImageController {
 
     private final PostService postService;
     private final PostImageService postImageService;
+    private final UploadService uploadService;
     private final SecurityUtil securityUtil;
     private final ObjectMapper objectMapper;
 
+    /**
+     * 게시글 이미지 업로드 (기존 multipart 방식)
+     * - 파일은 트랜잭션 밖에서 먼저 임시 업로드 → 짧은 트랜잭션에서 토큰으로 첨부
+     */
     @Operation(summary = "게시글 이미지 업로드", description = "게시글 작성 후 이미지를 업로드합니다.")
     @PostMapping(value = "/{postId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<Void>> uploadImages(
@@ -39,10 +49,27 @@ public class PostImageController {
         Long memberId = securityUtil.getCurrentMemberId();
         List<Integer> orderIndexes = objectMapper.readValue(orderIndexesJson, new TypeReference<>() {});
 
-        postService.uploadImages(postId, memberId, images, orderIndexes);
+        // 작성자가 아니면 파일을 저장하기 전에 거절
+        postImageService.findPostByIdAndValidateOwner(postId, memberId);
+        List<String> imageTokens = uploadService.stage(memberId, images, UploadPurpose.POST_IMAGE).stream()
+                .map(UploadTokenResponseDto::getToken)
+                .toList();
+
+        postService.attachImages(postId, memberId, imageTokens, orderIndexes);
         return ResponseEntity.ok(ApiResponse.success("이미지가 업로드되었습니다."));
     }
 
+    @Operation(summary = "게시글 이미지 첨부", description = "임시 업로드한 이미지(업로드 토큰)를 게시글에 첨부합니다.")
+    @PostMapping(value = "/{postId}/attach", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<Void>> attachImages(
+            @PathVariable Long postId,
+            @RequestBody PostImageAttachRequestDto requestDto
+    ) {
+        Long memberId = securityUtil.getCurrentMemberId();
+        postService.attachImages(postId, memberId, requestDto.getImageTokens(), requestDto.getOrderIndexes());
+        return ResponseEntity.ok(ApiResponse.success("이미지가 첨부되었습니다."));
+    }
+
     @Operation(summary = "게시글 이미지 순서만 변경", description = "게시글의 이미지 순서(orderIndex)만 수정합니다.")
     @PatchMapping("/{postId}/order")
     public ResponseEntity<ApiResponse<Void>> updateImageOrder(
@@ -54,4 +81,17 @@ public class PostImageController {
         postImageService.updateOrderIndexes(post, requestDto.getOrderIndexMap());
         return ResponseEntity.ok(ApiResponse.success("이미지 순서가 변경되었습니다."));
     }
+
+    @Operation(summary = "게시글 이미지 이동", description = "이미지 하나를 다른 이미지 바로 앞(beforeImageId) 또는 뒤(afterImageId)로 옮깁니다.")
+    @PatchMapping("/{postId}/{imageId}/move")
+    public ResponseEntity<ApiResponse<Void>> moveImage(
+            @PathVariable Long postId,
+            @PathVariable Long imageId,
+            @RequestBody PostImageMoveRequestDto requestDto
+    ) {
+        Long memberId = securityUtil.getCurrentMemberId();
+        Post post = postImageService.findPostByIdAndValidateOwner(postId, memberId);
+        postImageService.moveImage(post, imageId, requestDto.getBeforeImageId(), requestDto.getAfterImageId());
+        return ResponseEntity.ok(ApiResponse.success("이미지 순서가 변경되었습니다."));
+    }
 }
@@ -2,18 +2,28 @@ package ktb.community.be.domain.image.application;
 
 import ktb.community.be.domain.image.dao.PostImageRepository;
 import ktb.community.be.domain.image.domain.PostImage;
+import ktb.community.be.domain.image.domain.RankKey;
 import ktb.community.be.domain.member.domain.Member;
 import ktb.community.be.domain.post.dao.PostRepository;
 import ktb.community.be.domain.post.domain.Post;
+import ktb.community.be.domain.upload.application.UploadService;
+import ktb.community.be.domain.upload.domain.UploadPurpose;
 import ktb.community.be.global.exception.CustomException;
 import ktb.community.be.global.exception.ErrorCode;
-import ktb.community.be.global.util.FileStorageService;
+import ktb.community.be.global.job.JobLeaseHandle;
+import ktb.community.be.global.job.JobLeaseManager;
+import ktb.community.be.global.storage.StoredFileService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -24,7 +34,9 @@ public class PostImageService {
 
     private final PostRepository postRepository;
     private final PostImageRepository postImageRepository;
-    private final FileStorageService fileStorageService;
+    private final UploadService uploadService;
+    private final StoredFileService storedFileService;
+    private final JobLeaseManager jobLeaseManager;
 
     /**
      * 게시글 ID와 회원 ID를 기반으로 게시글을 조회하고 작성자인지 검증합니다.
@@ -41,48 +53,190 @@ public class PostImageService {
     }
 
     /**
-     * 게시글 이미지 중 유지하지 않을 이미지들을 Soft Delete 처리
+     * 게시글 수정 시 이미지 변경 (유지/삭제/순서 변경/추가)
+     * - 이미지 목록은 한 번만 조회하고 메모리에서 변경 내용을 계산
+     * - 삭제: UPDATE 한 번, 순서 변경: 옮긴 이미지만 UPDATE (JDBC 배치), 추가: 새 이미지만 INSERT
+     * @return 변경 후 표시 순서대로 정렬된 이미지 목록
      */
     @Transactional
-    public void deleteImages(Post post, List<Long> keepImageIds) {
-        List<PostImage> existingImages = postImageRepository.findAllByPostId(post.getId());
-        List<PostImage> toDelete = existingImages.stream()
-                .filter(img -> keepImageIds == null || !keepImageIds.contains(img.getId()))
+    public List<PostImage> applyChanges(Post post, List<Long> keepImageIds, Map<Long, Integer> orderIndexMap,
+                                        List<String> newImageTokens, List<Integer> newOrderIndexes) {
+        lockPost(post.getId());
+        List<PostImage> ordered = new ArrayList<>(rankedImages(post.getId()));
+
+        // keepImageIds 가 없으면 기존 이미지 전체 삭제
+        Set<Long> keep = keepImageIds == null ? Set.of() : new HashSet<>(keepImageIds);
+        List<PostImage> toDelete = ordered.stream()
+                .filter(image -> !keep.contains(image.getId()))
                 .toList();
-        toDelete.forEach(PostImage::softDelete);
-        postImageRepository.saveAll(toDelete);
+        if (!toDelete.isEmpty()) {
+            postImageRepository.softDeleteAllByIdIn(toDelete.stream().map(PostImage::getId).toList(), LocalDateTime.now());
+            storedFileService.releaseAll(toDelete.stream().map(PostImage::getImageUrl).toList());
+            ordered.removeAll(toDelete);
+        }
+
+        if (orderIndexMap != null && !orderIndexMap.isEmpty()) {
+            reorder(ordered, orderIndexMap);
+        }
+        if (newImageTokens != null && !newImageTokens.isEmpty()) {
+            insertNewImages(post, post.getMember(), ordered, newImageTokens, newOrderIndexes);
+        }
+        return ordered;
     }
 
     /**
-     * 게시글 이미지들 순서 수정
+     * 게시글 이미지들 순서 수정 (이미지 ID → 새 위치)
      */
     @Transactional
     public void updateOrderIndexes(Post post, Map<Long, Integer> orderIndexMap) {
-        List<PostImage> existingImages = postImageRepository.findAllByPostId(post.getId());
-        Map<Long, PostImage> imageMap = existingImages.stream()
+        lockPost(post.getId());
+        reorder(new ArrayList<>(rankedImages(post.getId())), orderIndexMap);
+    }
+
+    /**
+     * 지정한 이미지만 빼서 새 위치에 다시 끼워 넣음 → 옮긴 이미지의 정렬 키만 수정 (ordered 도 함께 갱신)
+     */
+    private void reorder(List<PostImage> ordered, Map<Long, Integer> orderIndexMap) {
+        Map<Long, PostImage> imageMap = ordered.stream()
                 .collect(Collectors.toMap(PostImage::getId, img -> img));
 
-        for (Map.Entry<Long, Integer> entry : orderIndexMap.entrySet()) {
+        List<Map.Entry<Long, Integer>> moves = orderIndexMap.entrySet().stream()
+                .filter(entry -> imageMap.containsKey(entry.getKey()))
+                .sorted(Map.Entry.comparingByValue())
+                .toList();
+        moves.forEach(entry -> ordered.remove(imageMap.get(entry.getKey())));
+
+        for (Map.Entry<Long, Integer> entry : moves) {
             PostImage image = imageMap.get(entry.getKey());
-            if (image != null) image.updateOrderIndex(entry.getValue());
+            int position = Math.clamp(entry.getValue(), 0, ordered.size());
+            image.updateRankKey(rankKeyAt(ordered, position));
+            ordered.add(position, image);
         }
-        postImageRepository.saveAll(existingImages);
     }
 
     /**
-     * 새로 업로드된 게시글 이미지 저장
+     * 이미지 하나를 다른 이미지 바로 앞/뒤로 이동 (옮긴 이미지 한 행만 수정)
+     * - beforeImageId: 이 이미지 바로 앞으로, afterImageId: 이 이미지 바로 뒤로 (둘 중 하나만 지정)
      */
     @Transactional
-    public List<PostImage> saveNewImages(Post post, Member member, List<MultipartFile> images, List<Integer> orderIndexes) {
-        if (images == null || images.isEmpty()) return List.of();
-        return IntStream.range(0, images.size())
-                .mapToObj(i -> PostImage.builder()
-                        .post(post)
-                        .member(member)
-                        .imageUrl(fileStorageService.storeFile(images.get(i), "posts"))
-                        .orderIndex(orderIndexes.get(i))
-                        .isDeleted(false)
-                        .build())
+    public void moveImage(Post post, Long imageId, Long beforeImageId, Long afterImageId) {
+        if ((beforeImageId == null) == (afterImageId == null) || imageId.equals(beforeImageId) || imageId.equals(afterImageId)) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "beforeImageId 와 afterImageId 중 하나만 지정해야 합니다.");
+        }
+
+        lockPost(post.getId());
+        List<PostImage> ordered = new ArrayList<>(rankedImages(post.getId()));
+        PostImage image = findActiveImage(ordered, imageId);
+        PostImage anchor = findActiveImage(ordered, beforeImageId != null ? beforeImageId : afterImageId);
+
+        ordered.remove(image);
+        int anchorPosition = ordered.indexOf(anchor);
+        image.updateRankKey(rankKeyAt(ordered, beforeImageId != null ? anchorPosition : anchorPosition + 1));
+    }
+
+    /**
+     * 정렬 키가 없거나 너무 길어진 게시글의 키를 고르게 다시 배정 (한 청크)
+     * @return 처리한 게시글 수
+     */
+    @Transactional
+    public int rebalanceRankKeys(JobLeaseHandle lease, int chunkSize, int maxKeyLength) {
+        jobLeaseManager.verifyHeld(lease);
+
+        List<Long> postIds = postImageRepository.findPostIdsNeedingRebalance(maxKeyLength, PageRequest.of(0, chunkSize));
+        for (Long postId : postIds) {
+            postRepository.findByIdForUpdate(postId);
+            resequence(postImageRepository.findAllByPostIdForUpdate(postId));
+        }
+        return postIds.size();
+    }
+
+    /**
+     * 임시 업로드된 이미지를 게시글에 첨부 (업로드 토큰 소비)
+     */
+    @Transactional
+    public List<PostImage> attachImages(Post post, Member member, List<String> imageTokens, List<Integer> orderIndexes) {
+        if (imageTokens == null || imageTokens.isEmpty()) return List.of();
+        if (post.getId() != null) lockPost(post.getId());
+        List<PostImage> ordered = new ArrayList<>(post.getId() != null ? rankedImages(post.getId()) : List.of());
+        return insertNewImages(post, member, ordered, imageTokens, orderIndexes);
+    }
+
+    /**
+     * 업로드 토큰을 소비해서 새 이미지 저장
+     * - orderIndex = 기존 이미지 사이에 들어갈 위치 (작은 것부터 끼워 넣음, 같으면 요청 순서)
+     */
+    private List<PostImage> insertNewImages(Post post, Member member, List<PostImage> ordered,
+                                            List<String> imageTokens, List<Integer> orderIndexes) {
+        if (orderIndexes == null || orderIndexes.size() != imageTokens.size()) {
+            throw new CustomException(ErrorCode.IMAGE_ORDER_INDEX_MISMATCH);
+        }
+
+        List<String> imageUrls = uploadService.claim(member.getId(), imageTokens, UploadPurpose.POST_IMAGE);
+        List<PostImage> postImages = new ArrayList<>(imageUrls.size());
+        List<Integer> insertOrder = IntStream.range(0, imageUrls.size()).boxed()
+                .sorted(Comparator.comparing(orderIndexes::get))
                 .toList();
+        for (int i : insertOrder) {
+            int position = Math.clamp(orderIndexes.get(i), 0, ordered.size());
+            PostImage postImage = PostImage.builder()
+                    .post(post)
+                    .member(member)
+                    .imageUrl(imageUrls.get(i))
+                    .orderIndex(orderIndexes.get(i))
+                    .rankKey(rankKeyAt(ordered, position))
+                    .isDeleted(false)
+                    .build();
+            ordered.add(position, postImage);
+            postImages.add(postImage);
+        }
+        return postImageRepository.saveAll(postImages);
+    }
+
+    /**
+     * 표시 순서대로 조회 (정렬 키가 없는 기존 이미지가 있으면 전체에 한 번 배정)
+     */
+    private List<PostImage> rankedImages(Long postId) {
+        List<PostImage> images = postImageRepository.findAllByPostId(postId);
+        if (images.stream().anyMatch(image -> image.getRankKey() == null)) {
+            resequence(images);
+        }
+        return images;
+    }
+
+    /**
+     * 정렬된 목록의 position 위치에 들어갈 키 (앞뒤 이미지 사이)
+     * - 앞뒤 키가 같으면 (잠금 도입 전 동시 추가로 생긴 중복) 목록 전체를 다시 배정한 뒤 계산
+     */
+    private static String rankKeyAt(List<PostImage> ordered, int position) {
+        String before = position > 0 ? ordered.get(position - 1).getRankKey() : null;
+        String after = position < ordered.size() ? ordered.get(position).getRankKey() : null;
+        if (before != null && after != null && before.compareTo(after) >= 0) {
+            resequence(ordered);
+            return rankKeyAt(ordered, position);
+        }
+        return RankKey.between(before, after);
+    }
+
+    /**
+     * 현재 목록 순서대로 키를 고르게 다시 배정
+     */
+    private static void resequence(List<PostImage> ordered) {
+        List<String> keys = RankKey.sequence(ordered.size());
+        IntStream.range(0, ordered.size()).forEach(i -> ordered.get(i).updateRankKey(keys.get(i)));
+    }
+
+    /**
+     * 게시글 행 잠금 → 같은 게시글의 이미지 추가/이동/재배정이 이전 이웃 키로 계산되지 않도록 직렬화
+     */
+    private void lockPost(Long postId) {
+        postRepository.findByIdForUpdate(postId)
+                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
+    }
+
+    private static PostImage findActiveImage(List<PostImage> ordered, Long imageId) {
+        return ordered.stream()
+                .filter(image -> image.getId().equals(imageId))
+                .findFirst()
+                .orElseThrow(() -> new CustomException(ErrorCode.IMAGE_NOT_FOUND));
     }
 }
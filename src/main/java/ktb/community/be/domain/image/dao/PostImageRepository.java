@@ -1,11 +1,17 @@
 package ktb.community.be.domain.image.dao;
 
+import jakarta.persistence.LockModeType;
 import ktb.community.be.domain.image.domain.PostImage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -14,6 +20,57 @@ public interface PostImageRepository extends JpaRepository<PostImage, Long> {
     /**
     게시글 상세 조회
      */
-    @Query("SELECT i FROM PostImage i WHERE i.post.id = :postId AND i.isDeleted = false ORDER BY i.orderIndex")
+    @Query("SELECT i FROM PostImage i WHERE i.post.id = :postId AND i.isDeleted = false " +
+            "ORDER BY i.rankKey, i.orderIndex, i.id")
     List<PostImage> findAllByPostId(@Param("postId") Long postId);
+
+    /**
+     * 게시글 이미지 전체 정렬 키 재배정용 (동시에 진행 중인 이미지 이동과 겹치지 않도록 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM PostImage i WHERE i.post.id = :postId AND i.isDeleted = false " +
+            "ORDER BY i.rankKey, i.orderIndex, i.id")
+    List<PostImage> findAllByPostIdForUpdate(@Param("postId") Long postId);
+
+    /**
+     * 정렬 키 재배정이 필요한 게시글 (키가 없거나 너무 길어진 경우)
+     */
+    @Query("SELECT DISTINCT i.post.id FROM PostImage i WHERE i.isDeleted = false " +
+            "AND (i.rankKey IS NULL OR LENGTH(i.rankKey) > :maxLength)")
+    List<Long> findPostIdsNeedingRebalance(@Param("maxLength") int maxLength, Pageable pageable);
+
+    @Query("SELECT i.imageUrl FROM PostImage i WHERE i.post.id = :postId AND i.isDeleted = false")
+    List<String> findActiveImageUrlsByPostId(@Param("postId") Long postId);
+
+    /**
+     * 게시글 삭제 시 이미지 일괄 Soft Delete
+     */
+    @Modifying
+    @Query("UPDATE PostImage i SET i.isDeleted = true, i.deletedAt = :now, i.updatedAt = :now " +
+            "WHERE i.post.id = :postId AND i.isDeleted = false")
+    int softDeleteAllByPostId(@Param("postId") Long postId, @Param("now") LocalDateTime now);
+
+    /**
+     * 게시글 수정 시 빠진 이미지 일괄 Soft Delete
+     */
+    @Modifying
+    @Query("UPDATE PostImage i SET i.isDeleted = true, i.deletedAt = :now, i.updatedAt = :now WHERE i.id IN :ids")
+    int softDeleteAllByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 이미지 변형본 URL 기록 (비동기 변형 생성 완료 시)
+     */
+    @Modifying
+    @Query("UPDATE PostImage i SET i.thumbnailUrl = :thumbnailUrl, i.mediumUrl = :mediumUrl WHERE i.imageUrl = :imageUrl")
+    int updateVariantUrls(@Param("imageUrl") String imageUrl,
+                          @Param("thumbnailUrl") String thumbnailUrl,
+                          @Param("mediumUrl") String mediumUrl);
+
+    /**
+     * 주어진 URL 중 아직 사용 중인 이미지 URL (삭제 후 유예 기간이 지나지 않은 이미지 포함)
+     */
+    @Query("SELECT DISTINCT i.imageUrl FROM PostImage i WHERE i.imageUrl IN :imageUrls " +
+            "AND (i.isDeleted = false OR i.deletedAt > :deletedAfter)")
+    List<String> findReferencedImageUrls(@Param("imageUrls") Collection<String> imageUrls,
+                                         @Param("deletedAfter") LocalDateTime deletedAfter);
 }
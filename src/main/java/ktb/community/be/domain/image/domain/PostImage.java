@@ -4,20 +4,33 @@ import jakarta.persistence.*;
 import ktb.community.be.domain.member.domain.Member;
 import ktb.community.be.domain.post.domain.Post;
 import ktb.community.be.global.domain.BaseTimeEntity;
+import ktb.community.be.global.domain.TimeSortedId;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 
 @Entity
-@Table(name = "post_image")
+@Table(name = "post_image", indexes = {
+        @Index(name = "idx_post_image_image_url", columnList = "image_url"),
+        @Index(name = "idx_post_image_post_rank", columnList = "post_id, rank_key")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 public class PostImage extends BaseTimeEntity {
 
+    /**
+     * 화면 표시 순서 (정렬 키 → 정렬 키가 없는 기존 데이터는 orderIndex → id)
+     */
+    public static final Comparator<PostImage> DISPLAY_ORDER = Comparator
+            .comparing(PostImage::getRankKey, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(PostImage::getOrderIndex)
+            .thenComparing(PostImage::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeSortedId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -31,9 +44,21 @@ public class PostImage extends BaseTimeEntity {
     @Column(length = 512, nullable = false)
     private String imageUrl;
 
+    // 비동기 생성되는 변형본 URL (생성 전에는 null)
+    @Column(length = 512)
+    private String thumbnailUrl;
+
+    @Column(length = 512)
+    private String mediumUrl;
+
+    // 첨부 시 요청한 순서 (정렬 키 도입 전 데이터의 정렬 기준)
     @Column(columnDefinition = "INT UNSIGNED DEFAULT 0", nullable = false)
     private Integer orderIndex;
 
+    // 사전순 정렬 키 (RankKey) → 순서 변경 시 옮긴 이미지 한 행만 수정
+    @Column(length = 64, columnDefinition = "VARCHAR(64) CHARACTER SET ascii COLLATE ascii_bin")
+    private String rankKey;
+
     @Builder.Default
     @Column(columnDefinition = "TINYINT(1) DEFAULT 0", nullable = false)
     private Boolean isDeleted = false;
@@ -51,9 +76,9 @@ public class PostImage extends BaseTimeEntity {
         this.deletedAt = LocalDateTime.now();
     }
 
-    public void updateOrderIndex(int newOrderIndex) {
-        if (!this.orderIndex.equals(newOrderIndex)) {
-            this.orderIndex = newOrderIndex;
+    public void updateRankKey(String newRankKey) {
+        if (!newRankKey.equals(this.rankKey)) {
+            this.rankKey = newRankKey;
         }
     }
 }
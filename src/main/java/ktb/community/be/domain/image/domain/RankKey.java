@@ -0,0 +1,89 @@
+package ktb.community.be.domain.image.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사전순 정렬 키 (base36: 0-9a-z)
+ * - 두 키 사이에 항상 새 키를 만들 수 있음 → 이미지 하나를 옮길 때 그 행만 수정
+ * - 키는 '0' 으로 끝나지 않음 (끝이 '0' 이면 그 앞에 끼워 넣을 자리가 없음)
+ * - 같은 자리에 계속 끼워 넣으면 키가 길어짐 → 재정렬 작업이 주기적으로 짧은 키로 다시 배정
+ */
+public final class RankKey {
+
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+
+    private RankKey() {
+    }
+
+    /**
+     * before 와 after 사이의 키 (before == null → 맨 앞, after == null → 맨 뒤)
+     */
+    public static String between(String before, String after) {
+        String lower = before == null ? "" : before;
+        if (after != null && lower.compareTo(after) >= 0) {
+            throw new IllegalArgumentException("before 는 after 보다 작아야 합니다: " + before + ", " + after);
+        }
+
+        StringBuilder key = new StringBuilder();
+        String upper = after;
+        for (int i = 0; ; i++) {
+            int low = i < lower.length() ? digit(lower.charAt(i)) : 0;
+            if (upper != null && i >= upper.length()) {
+                throw new IllegalArgumentException("잘못된 정렬 키: " + after);
+            }
+            int high = upper != null ? digit(upper.charAt(i)) : BASE;
+            if (low == high) {
+                key.append(DIGITS.charAt(low));
+                continue;
+            }
+
+            int mid = (low + high) / 2;
+            if (mid > low) {
+                return key.append(DIGITS.charAt(mid)).toString();
+            }
+            // 바로 다음 자리 숫자라 사이가 없음 → low 를 유지하고 다음 자리부터는 상한 없이 계산
+            key.append(DIGITS.charAt(low));
+            upper = null;
+        }
+    }
+
+    /**
+     * count 개의 키를 고르게 배정 (새 게시글, 재정렬)
+     */
+    public static List<String> sequence(int count) {
+        int width = 1;
+        long space = BASE;
+        while (space <= count * 2L) {
+            width++;
+            space *= BASE;
+        }
+
+        List<String> keys = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            keys.add(encode(space * i / (count + 1), width));
+        }
+        return keys;
+    }
+
+    private static String encode(long value, int width) {
+        char[] chars = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            chars[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        // 끝의 '0' 은 정렬 순서에 영향이 없으므로 제거
+        int length = width;
+        while (length > 1 && chars[length - 1] == '0') length--;
+        return new String(chars, 0, length);
+    }
+
+    private static int digit(char c) {
+        int digit = DIGITS.indexOf(c);
+        if (digit < 0) {
+            throw new IllegalArgumentException("잘못된 정렬 키 문자: " + c);
+        }
+        return digit;
+    }
+}
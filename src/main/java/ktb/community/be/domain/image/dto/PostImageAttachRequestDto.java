@@ -0,0 +1,13 @@
+package ktb.community.be.domain.image.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class PostImageAttachRequestDto {
+    // POST /api/uploads 로 발급받은 업로드 토큰
+    private List<String> imageTokens;
+    // imageTokens 와 같은 순서의 orderIndex
+    private List<Integer> orderIndexes;
+}
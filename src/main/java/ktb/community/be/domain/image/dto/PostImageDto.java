@@ -4,18 +4,37 @@ import ktb.community.be.domain.image.domain.PostImage;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.List;
+import java.util.stream.IntStream;
+
 @Getter
 @Builder
 public class PostImageDto {
     private Long id;
     private String imageUrl;
+    private String thumbnailUrl;
+    private String mediumUrl;
+    // 표시 순서 (0부터)
     private int orderIndex;
 
-    public static PostImageDto from(PostImage image) {
+    /**
+     * 표시 순서대로 정렬해서 변환 (orderIndex = 정렬된 위치)
+     */
+    public static List<PostImageDto> fromOrdered(List<PostImage> images) {
+        List<PostImage> sorted = images.stream().sorted(PostImage.DISPLAY_ORDER).toList();
+        return IntStream.range(0, sorted.size())
+                .mapToObj(i -> from(sorted.get(i), i))
+                .toList();
+    }
+
+    public static PostImageDto from(PostImage image, int position) {
         return PostImageDto.builder()
                 .id(image.getId())
                 .imageUrl(image.getImageUrl())
-                .orderIndex(image.getOrderIndex())
+                // 변형본이 아직 생성되지 않았으면 원본 URL 사용
+                .thumbnailUrl(image.getThumbnailUrl() != null ? image.getThumbnailUrl() : image.getImageUrl())
+                .mediumUrl(image.getMediumUrl() != null ? image.getMediumUrl() : image.getImageUrl())
+                .orderIndex(position)
                 .build();
     }
 }
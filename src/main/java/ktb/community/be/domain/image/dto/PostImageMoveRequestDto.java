@@ -0,0 +1,11 @@
+package ktb.community.be.domain.image.dto;
+
+import lombok.Getter;
+
+@Getter
+public class PostImageMoveRequestDto {
+    // 이 이미지 바로 앞으로 이동 (afterImageId 와 둘 중 하나만 지정)
+    private Long beforeImageId;
+    // 이 이미지 바로 뒤로 이동
+    private Long afterImageId;
+}
@@ -6,21 +6,27 @@ import ktb.community.be.domain.post.dao.PostRepository;
 import ktb.community.be.domain.post.domain.Post;
 import ktb.community.be.domain.member.dao.MemberRepository;
 import ktb.community.be.domain.member.domain.Member;
+import ktb.community.be.global.archive.ArchiveTable;
+import ktb.community.be.global.archive.SoftDeleteArchiver;
 import ktb.community.be.global.exception.CustomException;
 import ktb.community.be.global.exception.ErrorCode;
+import ktb.community.be.global.metrics.LatencyTimed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
+@LatencyTimed
 @RequiredArgsConstructor
 public class PostLikeService {
 
     private final PostRepository postRepository;
     private final PostLikeRepository postLikeRepository;
     private final MemberRepository memberRepository;
+    private final SoftDeleteArchiver softDeleteArchiver;
 
     /**
      * 사용자가 게시글에 좋아요를 추가/취소하는 기능
@@ -34,7 +40,9 @@ public class PostLikeService {
                 .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
 
         // 사용자의 기존 좋아요 확인
-        PostLike postLike = postLikeRepository.findByPostIdAndMemberId(postId, memberId).orElse(null);
+        PostLike postLike = postLikeRepository.findByPostIdAndMemberId(postId, memberId)
+                .or(() -> restoreArchivedLike(postId, memberId))
+                .orElse(null);
 
         if (postLike == null) {
             postLike = PostLike.builder()
@@ -59,6 +67,18 @@ public class PostLikeService {
         }
     }
 
+    /**
+     * 보관 테이블로 옮겨진 과거 좋아요가 있으면 원본으로 되돌린 뒤 다시 조회
+     * - (post_id, member_id) 유니크 키를 유지하기 위해 새 행 대신 기존 행을 복구
+     */
+    private Optional<PostLike> restoreArchivedLike(Long postId, Long memberId) {
+        if (softDeleteArchiver.restore(ArchiveTable.POST_LIKE, "post_id = :postId AND member_id = :memberId",
+                Map.of("postId", postId, "memberId", memberId)).isEmpty()) {
+            return Optional.empty();
+        }
+        return postLikeRepository.findByPostIdAndMemberId(postId, memberId);
+    }
+
     /**
      * 특정 게시글의 좋아요 개수 반환
      */
@@ -2,10 +2,12 @@ package ktb.community.be.domain.like.dao;
 
 import ktb.community.be.domain.like.domain.PostLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +26,23 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     @Query("SELECT pl FROM PostLike pl WHERE pl.post.id = :postId AND pl.isDeleted = false")
     List<PostLike> findAllByPostId(@Param("postId") Long postId);
 
+    /**
+     * 게시글 삭제 시 좋아요 일괄 Soft Delete (사용자 취소와 구분되도록 POST_DELETION 기록)
+     */
+    @Modifying
+    @Query("UPDATE PostLike pl SET pl.isDeleted = true, pl.deletedAt = :now, pl.updatedAt = :now, " +
+            "pl.softDeleteType = ktb.community.be.domain.like.domain.SoftDeleteType.POST_DELETION " +
+            "WHERE pl.post.id = :postId AND pl.isDeleted = false")
+    int softDeleteAllByPostId(@Param("postId") Long postId, @Param("now") LocalDateTime now);
+
+    /**
+     * 게시글 삭제 시 좋아요 Soft Delete (청크 단위, 비동기 정리용)
+     */
+    @Modifying
+    @Query(value = "UPDATE post_like SET is_deleted = 1, deleted_at = :now, updated_at = :now, soft_delete_type = 'POST_DELETION' " +
+            "WHERE post_id = :postId AND is_deleted = 0 LIMIT :limit", nativeQuery = true)
+    int softDeleteChunkByPostId(@Param("postId") Long postId, @Param("now") LocalDateTime now, @Param("limit") int limit);
+
     /**
      * 특정 사용자와 게시글에 대한 좋아요 조회 (Soft Delete 포함)
      */
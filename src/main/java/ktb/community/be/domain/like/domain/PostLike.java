@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import ktb.community.be.domain.post.domain.Post;
 import ktb.community.be.domain.member.domain.Member;
 import ktb.community.be.global.domain.BaseTimeEntity;
+import ktb.community.be.global.domain.TimeSortedId;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -19,7 +20,7 @@ import java.time.LocalDateTime;
 public class PostLike extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeSortedId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -5,6 +5,8 @@ import jakarta.validation.Valid;
 import ktb.community.be.domain.member.application.MemberService;
 import ktb.community.be.domain.member.dto.MemberResponseDto;
 import ktb.community.be.domain.member.dto.PasswordUpdateRequestDto;
+import ktb.community.be.domain.upload.application.UploadService;
+import ktb.community.be.domain.upload.domain.UploadPurpose;
 import ktb.community.be.global.response.ApiResponse;
 import ktb.community.be.global.security.SecurityUtil;
 import lombok.RequiredArgsConstructor;
@@ -12,12 +14,15 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/member")
 public class MemberController {
 
     private final MemberService memberService;
+    private final UploadService uploadService;
     private final SecurityUtil securityUtil;
 
     @Operation(summary = "내 정보 조회", description = "현재 로그인한 사용자의 정보를 조회합니다.")
@@ -35,13 +40,22 @@ public class MemberController {
         return ResponseEntity.ok(ApiResponse.success("회원 정보를 조회하였습니다.", responseDto));
     }
 
+    /**
+     * 회원 정보 수정
+     * - profileImage 파트로 직접 올린 이미지는 트랜잭션 전에 먼저 임시 업로드 → 토큰으로 첨부
+     */
     @Operation(summary = "회원 정보 수정", description = "닉네임과 프로필 이미지를 수정합니다.")
     @PutMapping(value = "/me", consumes = "multipart/form-data")
     public ResponseEntity<ApiResponse<MemberResponseDto>> updateMemberInfo(
             @RequestPart(value = "nickname", required = false) String nickname,
-            @RequestPart(value = "profileImage", required = false) MultipartFile profileImage) {
+            @RequestPart(value = "profileImage", required = false) MultipartFile profileImage,
+            @RequestPart(value = "profileImageToken", required = false) String profileImageToken) {
         Long memberId = securityUtil.getCurrentMemberId();
-        MemberResponseDto updatedMember = memberService.updateMemberInfo(memberId, nickname, profileImage);
+        if (profileImage != null && !profileImage.isEmpty()) {
+            profileImageToken = uploadService.stage(memberId, List.of(profileImage), UploadPurpose.PROFILE_IMAGE)
+                    .get(0).getToken();
+        }
+        MemberResponseDto updatedMember = memberService.updateMemberInfo(memberId, nickname, profileImageToken);
         return ResponseEntity.ok(ApiResponse.success("회원 정보가 수정되었습니다.", updatedMember));
     }
 
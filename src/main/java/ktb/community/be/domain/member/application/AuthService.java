@@ -11,7 +11,9 @@ import ktb.community.be.domain.member.dto.MemberRequestDto;
 import ktb.community.be.domain.member.dto.MemberResponseDto;
 import ktb.community.be.global.exception.CustomException;
 import ktb.community.be.global.exception.ErrorCode;
+import ktb.community.be.global.metrics.LatencyTimed;
 import ktb.community.be.global.security.TokenBlacklistService;
+import ktb.community.be.global.storage.StoredFileService;
 import ktb.community.be.global.util.FileStorageService;
 import ktb.community.be.global.security.TokenDto;
 import ktb.community.be.global.security.TokenProvider;
@@ -29,6 +31,7 @@ import java.util.List;
 
 @Slf4j
 @Service
+@LatencyTimed
 @RequiredArgsConstructor
 public class AuthService {
 
@@ -38,13 +41,14 @@ public class AuthService {
     private final TokenProvider tokenProvider;
     private final RefreshTokenRepository refreshTokenRepository;
     private final FileStorageService fileStorageService;
+    private final StoredFileService storedFileService;
     private final MemberService memberService;
     private final TokenBlacklistService tokenBlacklistService;
 
     /**
      * 회원가입
+     * - 프로필 이미지 저장(파일 I/O)은 트랜잭션 밖에서 처리 → 회원 저장만 짧은 트랜잭션
      */
-    @Transactional
     public MemberResponseDto signup(MemberRequestDto memberRequestDto) {
         // 1. 이메일 중복 검사
         if (memberRepository.existsByEmail(memberRequestDto.getEmail())) {
@@ -73,7 +77,12 @@ public class AuthService {
         String encodedPassword = passwordEncoder.encode(memberRequestDto.getPassword());
         Member member = memberRequestDto.toMember(encodedPassword, imageUrl);
 
-        return MemberResponseDto.of(memberRepository.save(member));
+        try {
+            return MemberResponseDto.of(memberRepository.save(member));
+        } catch (RuntimeException e) {
+            storedFileService.release(imageUrl);
+            throw e;
+        }
     }
 
     /**
@@ -98,9 +107,8 @@ public class AuthService {
                 .orElse(candidates.get(0));
 
         if (member.getIsDeleted()) {
-            memberService.restoreIfPossible(email);
-            return memberRepository.findByEmail(email)
-                    .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND, "복구된 회원을 찾을 수 없습니다."));
+            // 복구된 회원을 그대로 사용 (이메일 재조회 없음)
+            return memberService.restoreIfPossible(email);
         }
 
         return member;
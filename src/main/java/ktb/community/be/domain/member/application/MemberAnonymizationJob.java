@@ -0,0 +1,123 @@
+package ktb.community.be.domain.member.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import ktb.community.be.domain.member.dao.MemberRepository;
+import ktb.community.be.global.job.JobCheckpoint;
+import ktb.community.be.global.job.JobCheckpointRepository;
+import ktb.community.be.global.job.JobLeaseHandle;
+import ktb.community.be.global.job.JobLeaseManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 30일이 지난 탈퇴 회원의 이메일/닉네임을 deleted_ 형식으로 익명화하는 청크 작업
+ * - id 순서로 청크 조회 → 청크마다 짧은 트랜잭션에서 set-based UPDATE + 체크포인트 저장
+ * - 중간에 중단되어도 체크포인트부터 이어서 처리
+ * - 청크마다 리스(fencing token)를 검증하여 리스를 잃은 노드의 쓰기를 차단
+ */
+@Slf4j
+@Component
+public class MemberAnonymizationJob {
+
+    public static final String JOB_NAME = "member-anonymization";
+    private static final int RETENTION_DAYS = 30;
+
+    private final MemberRepository memberRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final JobLeaseManager jobLeaseManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer chunkTimer;
+    private final Counter processedCounter;
+
+    @Value("${member.anonymization.chunk-size:500}")
+    private int chunkSize;
+
+    public MemberAnonymizationJob(MemberRepository memberRepository,
+                                  JobCheckpointRepository jobCheckpointRepository,
+                                  JobLeaseManager jobLeaseManager,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry) {
+        this.memberRepository = memberRepository;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.jobLeaseManager = jobLeaseManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkTimer = Timer.builder("member.anonymization.chunk")
+                .description("탈퇴 회원 익명화 청크 처리 시간")
+                .register(meterRegistry);
+        this.processedCounter = Counter.builder("member.anonymization.processed")
+                .description("익명화 처리된 탈퇴 회원 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 만료된 탈퇴 회원 전체를 청크 단위로 익명화
+     */
+    public Result run(JobLeaseHandle lease) {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(RETENTION_DAYS);
+        long startedAt = System.nanoTime();
+        long processed = 0;
+        int chunks = 0;
+
+        while (true) {
+            Integer updated = chunkTimer.record(() -> transactionTemplate.execute(status -> processChunk(lease, threshold)));
+            if (updated == null || updated < 0) break;
+
+            processed += updated;
+            chunks++;
+            processedCounter.increment(updated);
+        }
+
+        Result result = new Result(processed, chunks, (System.nanoTime() - startedAt) / 1_000_000);
+        log.info("[익명화 작업 완료] 처리 회원 수={}, 청크 수={}, 소요 시간={}ms, 처리량={}건/s",
+                result.processed(), result.chunks(), result.elapsedMillis(), result.throughputPerSecond());
+        return result;
+    }
+
+    /**
+     * 청크 하나 처리 (처리할 대상이 없으면 체크포인트 초기화 후 -1 반환)
+     */
+    private int processChunk(JobLeaseHandle lease, LocalDateTime threshold) {
+        jobLeaseManager.verifyHeld(lease);
+
+        JobCheckpoint checkpoint = jobCheckpointRepository.findOrCreate(JOB_NAME);
+        List<Long> ids = memberRepository.findExpiredIdsAfter(
+                checkpoint.getPositionAsLong(), threshold, PageRequest.of(0, chunkSize));
+
+        if (ids.isEmpty()) {
+            // 다음 실행은 처음부터 다시 탐색
+            checkpoint.reset();
+            return -1;
+        }
+
+        int updated = memberRepository.anonymizeAllByIds(ids);
+        checkpoint.updatePosition(ids.get(ids.size() - 1));
+        jobCheckpointRepository.save(checkpoint);
+        log.debug("[익명화 청크 처리] lastId={}, 대상={}, 변경={}", checkpoint.getPosition(), ids.size(), updated);
+        return updated;
+    }
+
+    /**
+     * 이전 실행이 중간에 중단되었는지 (체크포인트가 남아 있는지) 확인
+     */
+    public boolean isInterrupted() {
+        return jobCheckpointRepository.findById(JOB_NAME)
+                .map(checkpoint -> checkpoint.getPosition() != null)
+                .orElse(false);
+    }
+
+    public record Result(long processed, int chunks, long elapsedMillis) {
+
+        public long throughputPerSecond() {
+            return elapsedMillis == 0 ? processed : processed * 1000 / elapsedMillis;
+        }
+    }
+}
@@ -4,13 +4,14 @@ import ktb.community.be.domain.member.dao.MemberRepository;
 import ktb.community.be.domain.member.domain.Member;
 import ktb.community.be.domain.member.dto.MemberResponseDto;
 import ktb.community.be.domain.member.dto.PasswordUpdateRequestDto;
+import ktb.community.be.domain.upload.application.UploadService;
+import ktb.community.be.domain.upload.domain.UploadPurpose;
 import ktb.community.be.global.exception.CustomException;
 import ktb.community.be.global.exception.ErrorCode;
-import ktb.community.be.global.util.FileStorageService;
+import ktb.community.be.global.storage.StoredFileService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDateTime;
@@ -22,7 +23,8 @@ import java.util.List;
 public class MemberService {
 
     private final MemberRepository memberRepository;
-    private final FileStorageService fileStorageService;
+    private final UploadService uploadService;
+    private final StoredFileService storedFileService;
     private final PasswordEncoder passwordEncoder;
 
     public MemberResponseDto findMemberInfoById(Long memberId) {
@@ -41,12 +43,12 @@ public class MemberService {
      * 회원 정보 수정
      */
     @Transactional
-    public MemberResponseDto updateMemberInfo(Long memberId, String nickname, MultipartFile profileImage) {
+    public MemberResponseDto updateMemberInfo(Long memberId, String nickname, String profileImageToken) {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND, "*사용자를 찾을 수 없습니다."));
 
         boolean isNicknameProvided = nickname != null && !nickname.trim().isEmpty();
-        boolean isImageProvided = profileImage != null && !profileImage.isEmpty();
+        boolean isImageProvided = profileImageToken != null && !profileImageToken.isBlank();
 
         // 닉네임이 전달된 경우에만 업데이트
         if (isNicknameProvided) {
@@ -54,9 +56,10 @@ public class MemberService {
             member.updateNickname(nickname);
         }
 
-        // 이미지가 전달된 경우에만 업데이트
+        // 이미지가 전달된 경우에만 업데이트 (임시 업로드된 파일의 토큰 소비)
         if (isImageProvided) {
-            String newProfileImagePath = fileStorageService.storeProfileImage(profileImage);
+            String newProfileImagePath = uploadService.claim(memberId, List.of(profileImageToken), UploadPurpose.PROFILE_IMAGE).get(0);
+            storedFileService.release(member.getProfileImageUrl());
             member.updateProfileImage(newProfileImagePath);
         }
 
@@ -125,7 +128,7 @@ public class MemberService {
      * 탈퇴 후 30일 이내면 복구 처리 진행
      */
     @Transactional
-    public void restoreIfPossible(String email) {
+    public Member restoreIfPossible(String email) {
         List<Member> candidates = memberRepository.findAllByEmailIncludingDeleted(email);
 
         if (candidates.isEmpty()) {
@@ -134,7 +137,7 @@ public class MemberService {
 
         // 1순위: 삭제 안 된 계정이 있으면 복구 필요 없음
         for (Member m : candidates) {
-            if (!m.getIsDeleted()) return;
+            if (!m.getIsDeleted()) return m;
         }
 
         // 복구 가능 후보 찾기 (deletedAt + 30초 이내)
@@ -147,9 +150,9 @@ public class MemberService {
                 .findFirst()
                 .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REQUEST, "계정이 완전히 삭제되었습니다. 새로 가입해주세요."));
 
-        // 원래 닉네임/이메일 추출
-        String originalEmail = extractOriginalEmail(restorable.getEmail());
-        String originalNickname = extractOriginalNickname(restorable.getNickname());
+        // 원래 닉네임/이메일 (익명화된 경우 보관 컬럼 사용)
+        String originalEmail = restorable.getOriginalEmail() != null ? restorable.getOriginalEmail() : restorable.getEmail();
+        String originalNickname = restorable.getOriginalNickname() != null ? restorable.getOriginalNickname() : restorable.getNickname();
 
         // 중복 체크 (자기 자신 제외)
         if (memberRepository.existsByEmail(originalEmail) && !originalEmail.equals(restorable.getEmail())) {
@@ -161,45 +164,9 @@ public class MemberService {
         }
 
         // 복구 처리
-        restorable.restoreAccount();
         restorable.updateEmail(originalEmail);
         restorable.updateNickname(originalNickname);
-    }
-
-    private String extractOriginalEmail(String deletedEmail) {
-        if (!deletedEmail.startsWith("deleted_")) return deletedEmail;
-        int prefixLength = "deleted_".length();
-        int lastUnderscore = deletedEmail.lastIndexOf('_');
-        if (lastUnderscore > prefixLength) {
-            return deletedEmail.substring(prefixLength, lastUnderscore);
-        }
-        return deletedEmail;
-    }
-
-    private String extractOriginalNickname(String deletedNickname) {
-        if (!deletedNickname.startsWith("deleted_")) return deletedNickname;
-
-        String withoutPrefix = deletedNickname.substring("deleted_".length());
-        int lastUnderscore = withoutPrefix.lastIndexOf('_');
-        if (lastUnderscore > 0) {
-            return withoutPrefix.substring(0, lastUnderscore);
-        }
-        return withoutPrefix;
-    }
-
-    /**
-     * 30일이 지난 탈퇴 회원의 이메일/닉네임을 deleted_로 변경
-     */
-    @Transactional(readOnly = false)
-    public void processExpiredDeletedAccounts() {
-        LocalDateTime thresholdDate = LocalDateTime.now().minusDays(30);
-        List<Member> expiredMembers = memberRepository.findExpiredAndNotAlreadyMarked(thresholdDate);
-
-        System.out.println("만료된 회원 수: " + expiredMembers.size());
-
-        for (Member member : expiredMembers) {
-            System.out.println("삭제 처리 대상: " + member.getEmail());
-            member.markAsDeleted();
-        }
+        restorable.restoreAccount();
+        return restorable;
     }
 }
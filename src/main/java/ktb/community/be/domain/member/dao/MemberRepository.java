@@ -1,12 +1,15 @@
 package ktb.community.be.domain.member.dao;
 
 import ktb.community.be.domain.member.domain.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,21 +23,65 @@ public interface MemberRepository extends JpaRepository<Member,Long> {
     boolean existsByNickname(String nickname);
 
     /**
-     * 현재 활성 회원 여부와 관계없이 동일 이메일 또는 deleted_이메일_UUID 형식 포함 회원 모두 조회
+     * 현재 활성 회원 여부와 관계없이 동일 이메일 또는 익명화 전 원래 이메일이 일치하는 회원 모두 조회
+     * - email(unique_email), original_email_key(idx_member_original_email_key) 인덱스 기반 조회 (LIKE 스캔 제거)
      * - 복수 탈퇴 계정 존재 시 복구 우선순위 판단용
      * - 사용 위치: 로그인 시 탈퇴 회원 복구 로직 (AuthService, MemberService)
      */
-    @Query("SELECT m FROM Member m WHERE m.email = :email OR m.email LIKE CONCAT('deleted_', :email, '\\_%') escape '\\'")
-    List<Member> findAllByEmailIncludingDeleted(@Param("email") String email);
+    @Query("SELECT m FROM Member m WHERE m.email = :email OR m.originalEmailKey = :normalizedEmail")
+    List<Member> findAllByEmailIncludingDeleted(@Param("email") String email,
+                                                @Param("normalizedEmail") String normalizedEmail);
+
+    default List<Member> findAllByEmailIncludingDeleted(String email) {
+        return findAllByEmailIncludingDeleted(email, Member.normalizeEmail(email));
+    }
 
     /**
-     * 탈퇴 후 30일이 경과했지만 아직 익명화되지 않은 회원 조회
-     * - 익명화 기준: email NOT LIKE 'deleted_%_%'
-     * - 사용 위치: 스케줄러 기반 자동 익명화 로직 (MemberService.processExpiredDeletedAccounts())
+     * 탈퇴 후 30일이 경과했지만 아직 익명화되지 않은 회원 ID를 id 순서로 청크 조회
+     * - 익명화 기준: original_email IS NULL AND email NOT LIKE 'deleted\_%'
+     * - 사용 위치: 청크 기반 익명화 작업 (MemberAnonymizationJob)
      */
-    @Query("SELECT m FROM Member m " +
-            "WHERE m.isDeleted = true " +
+    @Query("SELECT m.id FROM Member m " +
+            "WHERE m.id > :lastId " +
+            "AND m.isDeleted = true " +
             "AND m.deletedAt < :threshold " +
-            "AND m.email NOT LIKE 'deleted\\_%\\_%' escape '\\'")
-    List<Member> findExpiredAndNotAlreadyMarked(@Param("threshold") LocalDateTime threshold);
+            "AND m.originalEmail IS NULL " +
+            "AND m.email NOT LIKE 'deleted\\_%' escape '\\' " +
+            "ORDER BY m.id ASC")
+    List<Long> findExpiredIdsAfter(@Param("lastId") Long lastId,
+                                   @Param("threshold") LocalDateTime threshold,
+                                   Pageable pageable);
+
+    /**
+     * 회원 이메일/닉네임 일괄 익명화 (청크 단위 set-based UPDATE)
+     * - MySQL 은 SET 절을 왼쪽부터 적용하므로 original_* 에는 변경 전 값이 저장됨
+     * - original_email 은 원문 그대로(복구용), original_email_key 는 정규화 값(조회용)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE member SET " +
+            "original_email = email, " +
+            "original_email_key = LOWER(TRIM(email)), " +
+            "email = CONCAT('deleted_', email, '_', LEFT(REPLACE(UUID(), '-', ''), 6)), " +
+            "original_nickname = CASE WHEN nickname LIKE 'deleted\\_%' THEN original_nickname ELSE nickname END, " +
+            "nickname = CASE WHEN nickname LIKE 'deleted\\_%' THEN nickname " +
+            "ELSE CONCAT('deleted_', nickname, '_', LEFT(REPLACE(UUID(), '-', ''), 6)) END " +
+            "WHERE id IN (:ids) AND is_deleted = 1 AND email NOT LIKE 'deleted\\_%'",
+            nativeQuery = true)
+    int anonymizeAllByIds(@Param("ids") List<Long> ids);
+
+    /**
+     * 프로필 이미지 변형본 URL 기록 (비동기 변형 생성 완료 시)
+     */
+    @Modifying
+    @Query("UPDATE Member m SET m.profileThumbnailUrl = :thumbnailUrl, m.profileMediumUrl = :mediumUrl " +
+            "WHERE m.profileImageUrl = :profileImageUrl")
+    int updateProfileVariantUrls(@Param("profileImageUrl") String profileImageUrl,
+                                 @Param("thumbnailUrl") String thumbnailUrl,
+                                 @Param("mediumUrl") String mediumUrl);
+
+    /**
+     * 주어진 URL 중 프로필 이미지로 사용 중인 URL (복구 가능한 탈퇴 회원 포함)
+     */
+    @Query("SELECT DISTINCT m.profileImageUrl FROM Member m WHERE m.profileImageUrl IN :imageUrls")
+    List<String> findReferencedProfileImageUrls(@Param("imageUrls") Collection<String> imageUrls);
 }
@@ -6,17 +6,22 @@ import ktb.community.be.domain.like.domain.PostLike;
 import ktb.community.be.domain.comment.domain.PostComment;
 import ktb.community.be.domain.image.domain.PostImage;
 import ktb.community.be.global.domain.BaseTimeEntity;
+import ktb.community.be.global.domain.TimeSortedId;
 import lombok.*;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 
 @Entity
 @Table(name = "member", uniqueConstraints = {
         @UniqueConstraint(name = "unique_email", columnNames = "email"),
         @UniqueConstraint(name = "unique_nickname", columnNames = "nickname")
+}, indexes = {
+        @Index(name = "idx_member_profile_image_url", columnList = "profile_image_url"),
+        @Index(name = "idx_member_original_email_key", columnList = "original_email_key"),
+        @Index(name = "idx_member_original_nickname", columnList = "original_nickname")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -25,7 +30,7 @@ import java.util.UUID;
 public class Member extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeSortedId
     private Long id;
 
     @Column(length = 128, nullable = false, unique = true)
@@ -40,6 +45,24 @@ public class Member extends BaseTimeEntity {
     @Column(length = 512, nullable = false)
     private String profileImageUrl;
 
+    // 비동기 생성되는 프로필 이미지 변형본 URL (생성 전에는 null)
+    @Column(length = 512)
+    private String profileThumbnailUrl;
+
+    @Column(length = 512)
+    private String profileMediumUrl;
+
+    // 익명화(deleted_ 접두사) 시 원래 이메일/닉네임 보관 → 복구 시 그대로 되돌림 (대소문자 포함)
+    @Column(length = 128)
+    private String originalEmail;
+
+    // 원래 이메일의 정규화 값 (복구 대상 인덱스 조회 전용)
+    @Column(length = 128)
+    private String originalEmailKey;
+
+    @Column(length = 30)
+    private String originalNickname;
+
     @Enumerated(EnumType.STRING)
     private Authority authority;
 
@@ -88,17 +111,26 @@ public class Member extends BaseTimeEntity {
 
     public void markAsDeleted() {
         if (!this.email.startsWith("deleted_")) {
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
             String randomSuffix = UUID.randomUUID().toString().substring(0, 6);
+            this.originalEmail = this.email;
+            this.originalEmailKey = normalizeEmail(this.email);
             this.email = String.format("deleted_%s_%s", this.email, randomSuffix);
         }
 
         if (!this.nickname.startsWith("deleted_")) {
             String randomSuffix = UUID.randomUUID().toString().substring(0, 6);
+            this.originalNickname = this.nickname;
             this.nickname = String.format("deleted_%s_%s", this.nickname, randomSuffix);
         }
     }
 
+    /**
+     * original_email_key 저장/조회 시 사용하는 정규화 규칙 (공백 제거 + 소문자)
+     */
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
     public void updateEmail(String newEmail) {
         this.email = newEmail;
     }
@@ -107,6 +139,9 @@ public class Member extends BaseTimeEntity {
         this.isDeleted = false;
         this.isActive = true;
         this.deletedAt = null;
+        this.originalEmail = null;
+        this.originalEmailKey = null;
+        this.originalNickname = null;
     }
 
     public void updateNickname(String newNickname) {
@@ -115,6 +150,8 @@ public class Member extends BaseTimeEntity {
 
     public void updateProfileImage(String newProfileImageUrl) {
         this.profileImageUrl = newProfileImageUrl;
+        this.profileThumbnailUrl = null;
+        this.profileMediumUrl = null;
     }
 
     public void updatePassword(String newPassword) {
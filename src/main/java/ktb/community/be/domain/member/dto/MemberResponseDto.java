@@ -13,11 +13,17 @@ public class MemberResponseDto {
     private String email;
     private String nickname;
     private String profileImageUrl;
+    private String profileThumbnailUrl;
+    private String profileMediumUrl;
 
     public static MemberResponseDto of(Member member) {
         // 만약 닉네임이 deleted_로 시작하면 제거한 후 반환
         String fixedNickname = member.getNickname().startsWith("deleted_") ? member.getNickname().replace("deleted_", "") : member.getNickname();
 
-        return new MemberResponseDto(member.getEmail(), fixedNickname, member.getProfileImageUrl());
+        // 변형본이 아직 생성되지 않았으면 원본 URL 사용
+        String thumbnailUrl = member.getProfileThumbnailUrl() != null ? member.getProfileThumbnailUrl() : member.getProfileImageUrl();
+        String mediumUrl = member.getProfileMediumUrl() != null ? member.getProfileMediumUrl() : member.getProfileImageUrl();
+
+        return new MemberResponseDto(member.getEmail(), fixedNickname, member.getProfileImageUrl(), thumbnailUrl, mediumUrl);
     }
 }
@@ -7,6 +7,8 @@ import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import ktb.community.be.domain.post.application.PostService;
 import ktb.community.be.domain.post.dto.*;
+import ktb.community.be.domain.upload.application.UploadService;
+import ktb.community.be.domain.upload.domain.UploadPurpose;
 import ktb.community.be.global.response.ApiResponse;
 import ktb.community.be.global.response.ApiResponseConstants;
 import ktb.community.be.global.security.SecurityUtil;
@@ -18,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @RestController
@@ -26,6 +29,7 @@ import java.util.List;
 public class PostController {
 
     private final PostService postService;
+    private final UploadService uploadService;
     private final SecurityUtil securityUtil;
     private final ObjectMapper objectMapper;
 
@@ -35,7 +39,7 @@ public class PostController {
     public ResponseEntity<ApiResponse<PostCreateResponseDto>> createPost(
             @Valid @RequestBody PostCreateRequestDto requestDto) {
         Long memberId = securityUtil.getCurrentMemberId();
-        PostCreateResponseDto responseDto = postService.createPost(memberId, requestDto, null, null);
+        PostCreateResponseDto responseDto = postService.createPost(memberId, requestDto);
         return ResponseEntity.ok(ApiResponse.success("게시글이 작성되었습니다.", responseDto));
     }
 
@@ -48,14 +52,29 @@ public class PostController {
 
     /**
      * 게시글 수정 (multipart 포함 → PUT 사용 어려우므로 POST 사용)
+     * - newImages 파트로 직접 올린 이미지는 트랜잭션 전에 먼저 임시 업로드 → 토큰으로 첨부
      */
     @Operation(summary = "게시글 수정", description = "게시글을 수정합니다.")
     @PostMapping(value = "/{postId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<PostDetailResponseDto>> updatePost(
             @PathVariable Long postId,
-            @RequestPart("updateData") @Valid PostUpdateWithImageRequestDto updateDto
+            @RequestPart("updateData") @Valid PostUpdateWithImageRequestDto updateDto,
+            @RequestPart(value = "newImages", required = false) List<MultipartFile> newImages
     ) {
         Long memberId = securityUtil.getCurrentMemberId();
+        if (newImages != null && !newImages.isEmpty()) {
+            // 작성자가 아니면 파일을 저장하기 전에 거절
+            postService.validateOwner(postId, memberId);
+            List<String> newImageTokens = new ArrayList<>();
+            if (updateDto.getNewImageTokens() != null) newImageTokens.addAll(updateDto.getNewImageTokens());
+            uploadService.stage(memberId, newImages, UploadPurpose.POST_IMAGE)
+                    .forEach(uploaded -> newImageTokens.add(uploaded.getToken()));
+            updateDto = PostUpdateWithImageRequestDto.builder()
+                    .postData(updateDto.getPostData())
+                    .newImageTokens(newImageTokens)
+                    .orderIndexes(updateDto.getOrderIndexes())
+                    .build();
+        }
         PostDetailResponseDto updated = postService.updatePost(postId, memberId, updateDto);
         return ResponseEntity.ok(ApiResponse.success("게시글이 수정되었습니다.", updated));
     }
@@ -72,8 +91,9 @@ public class PostController {
     @GetMapping
     public ResponseEntity<ApiResponse<List<PostListResponseDto>>> getAllPosts(
             @RequestParam(required = false) LocalDateTime cursor,
+            @RequestParam(required = false) Long cursorId,
             @RequestParam(defaultValue = "10") int size) {
-        List<PostListResponseDto> posts = postService.getAllPosts(cursor, PageRequest.of(0, size));
+        List<PostListResponseDto> posts = postService.getAllPosts(cursor, cursorId, PageRequest.of(0, size));
         return ResponseEntity.ok(ApiResponse.success("게시글 목록을 조회했습니다.", posts));
     }
 }
@@ -0,0 +1,123 @@
+package ktb.community.be.domain.post.application;
+
+import jakarta.annotation.PreDestroy;
+import ktb.community.be.domain.comment.dao.PostCommentRepository;
+import ktb.community.be.domain.like.dao.PostLikeRepository;
+import ktb.community.be.domain.post.dao.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 댓글/좋아요가 많은 게시글 삭제 시 자식 행을 청크 단위로 Soft Delete
+ * - 청크마다 짧은 트랜잭션 → 한 트랜잭션이 수만 행을 잠그지 않음
+ * - 삭제 트랜잭션 커밋 직후 바로 시작, 중간에 서버가 내려가면 스케줄러(PostCascadeDeleteScheduler)가 이어서 처리
+ * - 각 청크는 아직 삭제되지 않은 행만 수정 → 같은 게시글을 두 번 처리해도 결과가 같음
+ */
+@Slf4j
+@Service
+public class PostCascadeDeleteService {
+
+    private final PostRepository postRepository;
+    private final PostCommentRepository postCommentRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final int chunkSize;
+    private final Duration chunkPause;
+
+    public PostCascadeDeleteService(PostRepository postRepository,
+                                    PostCommentRepository postCommentRepository,
+                                    PostLikeRepository postLikeRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${post.delete.chunk-size:1000}") int chunkSize,
+                                    @Value("${post.delete.chunk-pause:PT0.05S}") Duration chunkPause) {
+        this.postRepository = postRepository;
+        this.postCommentRepository = postCommentRepository;
+        this.postLikeRepository = postLikeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("post-cascade-delete-", 0).factory());
+        this.chunkSize = chunkSize;
+        this.chunkPause = chunkPause;
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 자식 행 정리 시작 (롤백되면 시작하지 않음)
+     */
+    public void scheduleAfterCommit(Long postId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                executor.execute(() -> {
+                    try {
+                        drain(postId);
+                    } catch (Exception e) {
+                        log.warn("[게시글 삭제 정리 실패] postId={}, error={} (스케줄러가 다시 처리)", postId, e.getMessage());
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * 정리가 남은 게시글 처리 (서버 재시작 등으로 중단된 작업)
+     * @return 처리한 게시글 수
+     */
+    public int drainPending(int limit) {
+        List<Long> postIds = postRepository.findCascadePendingIds(limit);
+        postIds.forEach(this::drain);
+        return postIds.size();
+    }
+
+    private void drain(Long postId) {
+        long total = 0;
+        while (true) {
+            ChunkResult result = transactionTemplate.execute(status -> softDeleteChunk(postId));
+            total += result.deleted();
+            if (result.done()) break;
+            pause();
+        }
+        log.info("* 게시글 삭제 정리 완료 postId={} ({}건)", postId, total);
+    }
+
+    /**
+     * 좋아요/댓글을 각각 최대 chunkSize 개 Soft Delete, 둘 다 남은 행이 없으면 정리 완료 표시
+     */
+    private ChunkResult softDeleteChunk(Long postId) {
+        LocalDateTime now = LocalDateTime.now();
+        int likes = postLikeRepository.softDeleteChunkByPostId(postId, now, chunkSize);
+        int comments = postCommentRepository.softDeleteChunkByPostId(postId, now, chunkSize);
+        boolean done = likes < chunkSize && comments < chunkSize;
+        if (done) {
+            postRepository.clearCascadePending(postId);
+        }
+        return new ChunkResult(likes + comments, done);
+    }
+
+    private record ChunkResult(int deleted, boolean done) {
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(chunkPause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("게시글 삭제 정리 중단", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -2,27 +2,25 @@ package ktb.community.be.domain.post.application;
 
 import ktb.community.be.domain.comment.application.PostCommentService;
 import ktb.community.be.domain.comment.dao.PostCommentRepository;
-import ktb.community.be.domain.comment.domain.PostComment;
 import ktb.community.be.domain.comment.dto.CommentResponseDto;
 import ktb.community.be.domain.image.application.PostImageService;
 import ktb.community.be.domain.image.dao.PostImageRepository;
 import ktb.community.be.domain.image.domain.PostImage;
 import ktb.community.be.domain.like.dao.PostLikeRepository;
-import ktb.community.be.domain.like.domain.PostLike;
 import ktb.community.be.domain.member.dao.MemberRepository;
 import ktb.community.be.domain.member.domain.Member;
 import ktb.community.be.domain.post.dao.PostRepository;
 import ktb.community.be.domain.post.domain.Post;
 import ktb.community.be.domain.post.dto.*;
-import ktb.community.be.global.domain.BaseTimeEntity;
 import ktb.community.be.global.exception.CustomException;
 import ktb.community.be.global.exception.ErrorCode;
-import ktb.community.be.global.util.FileStorageService;
+import ktb.community.be.global.metrics.LatencyTimed;
+import ktb.community.be.global.storage.StoredFileService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -30,6 +28,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 @Service
+@LatencyTimed
 @RequiredArgsConstructor
 public class PostService {
 
@@ -40,65 +39,62 @@ public class PostService {
     private final MemberRepository memberRepository;
     private final PostImageService postImageService;
     private final PostCommentService postCommentService;
-    private final FileStorageService fileStorageService;
+    private final StoredFileService storedFileService;
+    private final PostCascadeDeleteService postCascadeDeleteService;
+
+    @Value("${post.delete.async-threshold:5000}")
+    private int cascadeDeleteAsyncThreshold;
 
     /**
-     * 게시글에 대한 이미지 업로드 처리
+     * 게시글에 임시 업로드된 이미지 첨부 (업로드 토큰 소비)
      */
     @Transactional
-    public void uploadImages(Long postId, Long memberId,
-                             List<MultipartFile> images, List<Integer> orderIndexes) {
+    public void attachImages(Long postId, Long memberId,
+                             List<String> imageTokens, List<Integer> orderIndexes) {
+        if (imageTokens == null || imageTokens.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "게시글 이미지는 최소 1개 이상 필요합니다.");
+        }
         Post post = findPostByIdAndValidateOwner(postId, memberId);
-        List<PostImage> postImages = buildPostImages(images, orderIndexes, post, post.getMember());
-        postImageRepository.saveAll(postImages);
+        postImageService.attachImages(post, post.getMember(), imageTokens, orderIndexes);
     }
 
     /**
-     * 게시글 생성 및 이미지 저장
+     * 게시글 생성 및 이미지 첨부
+     * - 이미지는 미리 임시 업로드된 토큰으로만 받음 (트랜잭션 안에서 파일 I/O 없음)
      */
     @Transactional
-    public PostCreateResponseDto createPost(Long memberId, PostCreateRequestDto requestDto,
-                                            List<MultipartFile> images, List<Integer> orderIndexes) {
+    public PostCreateResponseDto createPost(Long memberId, PostCreateRequestDto requestDto) {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
 
         Post post = postRepository.save(requestDto.toEntity(member));
 
-        List<PostImage> postImages = List.of();
-        if (images != null && !images.isEmpty()) {
-            postImages = buildPostImages(images, orderIndexes, post, member);
-            postImageRepository.saveAll(postImages);
-        }
+        List<String> imageTokens = requestDto.getImageTokens();
+        List<PostImage> postImages = postImageService.attachImages(post, member, imageTokens,
+                imageTokens == null ? null : IntStream.range(0, imageTokens.size()).boxed().toList());
 
         return PostCreateResponseDto.from(post, postImages);
     }
 
     /**
      * 게시글 수정 및 이미지 변경 처리
+     * - 이미지 목록은 한 번만 조회해서 변경 내용만 반영, 응답은 메모리의 결과로 생성
+     * - 좋아요 수는 게시글 조회 시 함께 계산된 값(@Formula) 사용
      */
     @Transactional
     public PostDetailResponseDto updatePost(Long postId, Long memberId, PostUpdateWithImageRequestDto updateDto) {
         Post post = findPostByIdAndValidateOwner(postId, memberId);
         PostUpdateRequestDto data = updateDto.getPostData();
 
-        postImageService.deleteImages(post, data.getKeepImageIds());
-        if (data.hasOrderIndexUpdate()) {
-            postImageService.updateOrderIndexes(post, data.getOrderIndexMap());
-        }
-
-        if (updateDto.getNewImages() != null && !updateDto.getNewImages().isEmpty()) {
-            List<PostImage> newPostImages = postImageService.saveNewImages(post, post.getMember(), updateDto.getNewImages(), updateDto.getOrderIndexes());
-            // 저장은 서비스 내부에서 진행됨
-        }
+        List<PostImage> images = postImageService.applyChanges(post,
+                data.getKeepImageIds(),
+                data.hasOrderIndexUpdate() ? data.getOrderIndexMap() : null,
+                updateDto.getNewImageTokens(),
+                updateDto.getOrderIndexes());
 
         post.update(data.getTitle(), data.getContent());
 
-        return PostDetailResponseDto.from(
-                post,
-                postLikeRepository.countByPostId(postId),
-                postImageRepository.findAllByPostId(postId),
-                List.of()
-        );
+        return PostDetailResponseDto.from(post, post.getLikeCount(), images, List.of());
     }
 
     /**
@@ -119,29 +115,52 @@ public class PostService {
 
     /**
      * 게시글 삭제 (댓글, 이미지, 좋아요도 함께 soft delete)
+     * - 엔티티를 읽지 않고 post_id 기준 UPDATE 한 번씩 실행
+     * - 댓글 + 좋아요 수가 post.delete.async-threshold 를 넘으면 게시글만 바로 숨기고 댓글/좋아요는 커밋 후 청크 단위로 정리
      */
     @Transactional
     public void deletePost(Long postId, Long memberId) {
         Post post = findPostByIdAndValidateOwner(postId, memberId);
-
-        softDeleteAll(postCommentRepository.findAllByPostId(postId));
-        softDeleteAll(postImageRepository.findAllByPostId(postId));
-        softDeleteAll(postLikeRepository.findAllByPostId(postId));
-
-        post.softDelete();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<String> imageUrls = postImageRepository.findActiveImageUrlsByPostId(postId);
+        postImageRepository.softDeleteAllByPostId(postId, now);
+        storedFileService.releaseAll(imageUrls);
+
+        int commentCount = post.getCommentCount() == null ? 0 : post.getCommentCount();
+        if (commentCount + post.getLikeCount() > cascadeDeleteAsyncThreshold) {
+            post.softDeleteWithPendingCascade();
+            postCascadeDeleteService.scheduleAfterCommit(postId);
+        } else {
+            postCommentRepository.softDeleteAllByPostId(postId, now);
+            postLikeRepository.softDeleteAllByPostId(postId, now);
+            post.softDelete();
+        }
         postRepository.save(post);
     }
 
     /**
      * 전체 게시글 조회 (커서 기반 페이지네이션)
+     * - cursorId: 마지막으로 받은 게시글 ID (권장), cursor: 마지막 게시글 작성 시각 (기존 클라이언트 호환)
      */
     @Transactional(readOnly = true)
-    public List<PostListResponseDto> getAllPosts(LocalDateTime cursor, Pageable pageable) {
-        return postRepository.findByCursor(cursor, pageable).stream()
-                .map(post -> PostListResponseDto.from(post, postLikeRepository.countByPostId(post.getId())))
+    public List<PostListResponseDto> getAllPosts(LocalDateTime cursor, Long cursorId, Pageable pageable) {
+        List<Post> posts = cursor != null && cursorId == null
+                ? postRepository.findByCursor(cursor, pageable)
+                : postRepository.findByIdCursor(cursorId, pageable);
+        return posts.stream()
+                .map(post -> PostListResponseDto.from(post, post.getLikeCount()))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 작성자 검증만 수행 (파일 저장 등 비용이 큰 작업 전에 먼저 거절할 때 사용)
+     */
+    @Transactional(readOnly = true)
+    public void validateOwner(Long postId, Long memberId) {
+        findPostByIdAndValidateOwner(postId, memberId);
+    }
+
     /**
      * 게시글 ID와 회원 ID로 게시글 조회 및 작성자 검증
      */
@@ -153,40 +172,4 @@ public class PostService {
         }
         return post;
     }
-
-    /**
-     * 게시글 이미지 목록 생성 (파일 저장 포함)
-     */
-    private List<PostImage> buildPostImages(List<MultipartFile> images, List<Integer> orderIndexes,
-                                            Post post, Member member) {
-        if (images == null || images.isEmpty()) return List.of();
-
-        if (orderIndexes == null || orderIndexes.size() != images.size()) {
-            throw new CustomException(ErrorCode.IMAGE_ORDER_INDEX_MISMATCH);
-        }
-
-        return IntStream.range(0, images.size())
-                .mapToObj(i -> {
-                    String imageUrl = fileStorageService.storeFile(images.get(i), "posts");
-                    return PostImage.builder()
-                            .post(post)
-                            .member(member)
-                            .imageUrl(imageUrl)
-                            .orderIndex(orderIndexes.get(i))
-                            .isDeleted(false)
-                            .build();
-                })
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * 댓글, 이미지, 좋아요 등 다양한 엔티티 일괄 soft delete
-     */
-    private <T extends BaseTimeEntity> void softDeleteAll(List<T> entities) {
-        entities.forEach(entity -> {
-            if (entity instanceof PostImage image) image.softDelete();
-            else if (entity instanceof PostComment comment) comment.softDelete();
-            else if (entity instanceof PostLike like) like.softDeleteByPostDeletion();
-        });
-    }
 }
@@ -1,9 +1,11 @@
 package ktb.community.be.domain.post.dao;
 
+import jakarta.persistence.LockModeType;
 import ktb.community.be.domain.post.domain.Post;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -24,6 +26,13 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             "WHERE p.id = :id AND p.deletedAt IS NULL")
     Optional<Post> findByIdAndDeletedAtIsNull(@Param("id") Long id);
 
+    /**
+     * 게시글 행 잠금 (이미지 추가/이동/정렬 키 재배정이 같은 게시글에서 동시에 진행되지 않도록)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Post p WHERE p.id = :id")
+    Optional<Post> findByIdForUpdate(@Param("id") Long id);
+
     /**
      * 게시글 상세 조회 시 조회 수 증가
      */
@@ -31,6 +40,16 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("UPDATE Post p SET p.viewCount = p.viewCount + 1 WHERE p.id = :postId")
     void incrementViewCount(@Param("postId") Long postId);
 
+    /**
+     * 삭제 후 댓글/좋아요 정리가 남은 게시글 (삭제된 게시글이라 @Where 를 피해 네이티브 쿼리 사용)
+     */
+    @Query(value = "SELECT id FROM post WHERE cascade_pending = 1 ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findCascadePendingIds(@Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE post SET cascade_pending = 0 WHERE id = :postId", nativeQuery = true)
+    int clearCascadePending(@Param("postId") Long postId);
+
     /**
      * 커서 기반 게시글 목록 조회 (최신순)
      */
@@ -40,4 +59,14 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             "AND (:cursor IS NULL OR p.createdAt < :cursor) " +
             "ORDER BY p.createdAt DESC")
     List<Post> findByCursor(@Param("cursor") LocalDateTime cursor, Pageable pageable);
+
+    /**
+     * ID 커서 기반 게시글 목록 조회 (최신순, ID 가 시간순이라 생성 시각이 같아도 누락/중복 없음)
+     */
+    @EntityGraph(attributePaths = {"member"})
+    @Query("SELECT p FROM Post p " +
+            "WHERE p.deletedAt IS NULL " +
+            "AND (:cursorId IS NULL OR p.id < :cursorId) " +
+            "ORDER BY p.id DESC")
+    List<Post> findByIdCursor(@Param("cursorId") Long cursorId, Pageable pageable);
 }
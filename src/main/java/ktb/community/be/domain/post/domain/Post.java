@@ -6,6 +6,7 @@ import ktb.community.be.domain.image.domain.PostImage;
 import ktb.community.be.domain.like.domain.PostLike;
 import ktb.community.be.domain.member.domain.Member;
 import ktb.community.be.global.domain.BaseTimeEntity;
+import ktb.community.be.global.domain.TimeSortedId;
 import lombok.*;
 import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Formula;
@@ -19,7 +20,9 @@ import java.util.List;
 import java.util.Set;
 
 @Entity
-@Table(name = "post")
+@Table(name = "post", indexes = {
+        @Index(name = "idx_post_cascade_pending", columnList = "cascade_pending")
+})
 @SQLDelete(sql = "UPDATE post SET deleted_at = NOW(), is_deleted = 1 WHERE id = ?")
 @Where(clause = "deleted_at IS NULL")
 @Getter
@@ -29,7 +32,7 @@ import java.util.Set;
 public class Post extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeSortedId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -46,6 +49,11 @@ public class Post extends BaseTimeEntity {
     @Column(columnDefinition = "INT UNSIGNED DEFAULT 0")
     private Integer viewCount = 0;
 
+    // 삭제 후 댓글/좋아요 Soft Delete 가 비동기로 진행 중 (댓글/좋아요가 많은 게시글)
+    @Builder.Default
+    @Column(columnDefinition = "TINYINT(1) DEFAULT 0", nullable = false)
+    private Boolean cascadePending = false;
+
     @Formula("(SELECT COUNT(pl.id) FROM post_like pl WHERE pl.post_id = id AND pl.is_deleted = 0)")
     private int likeCount;
 
@@ -61,7 +69,7 @@ public class Post extends BaseTimeEntity {
 
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     @BatchSize(size = 20)
-    @OrderBy("orderIndex ASC")
+    @OrderBy("rankKey ASC, orderIndex ASC, id ASC")
     private List<PostImage> images = new ArrayList<>();
 
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -91,4 +99,12 @@ public class Post extends BaseTimeEntity {
         this.isDeleted = true;
         this.deletedAt = LocalDateTime.now();
     }
+
+    /**
+     * 게시글은 바로 숨기고 댓글/좋아요는 비동기로 정리
+     */
+    public void softDeleteWithPendingCascade() {
+        softDelete();
+        this.cascadePending = true;
+    }
 }
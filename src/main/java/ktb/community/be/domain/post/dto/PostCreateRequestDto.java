@@ -10,6 +10,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @NoArgsConstructor
@@ -24,6 +25,9 @@ public class PostCreateRequestDto {
     @NotBlank(message = "내용을 입력해주세요.")
     private String content;
 
+    // POST /api/uploads 로 발급받은 업로드 토큰 (목록 순서 = 이미지 순서)
+    private List<String> imageTokens;
+
     public Post toEntity(Member member) {
         return Post.builder()
                 .member(member)
@@ -9,9 +9,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 @Builder
@@ -57,10 +55,7 @@ public class PostDetailResponseDto {
                 .commentCount(post.getCommentCount())
                 .memberNickname(nickname)
                 .memberProfileImageUrl(profileImageUrl)
-                .images(images.stream()
-                        .sorted(Comparator.comparingInt(PostImage::getOrderIndex))
-                        .map(PostImageDto::from)
-                        .collect(Collectors.toList()))
+                .images(PostImageDto.fromOrdered(images))
                 .comments(comments)
                 .build();
     }
@@ -5,7 +5,6 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -17,6 +16,6 @@ public class PostUpdateWithImageRequestDto {
 
     @Valid
     private PostUpdateRequestDto postData; // 기존 제목, 내용, 이미지 순서 정보 등
-    private List<MultipartFile> newImages;
-    private List<Integer> orderIndexes;
+    private List<String> newImageTokens; // 새로 첨부할 이미지의 업로드 토큰
+    private List<Integer> orderIndexes; // newImageTokens 와 같은 순서의 orderIndex
 }
@@ -0,0 +1,54 @@
+package ktb.community.be.domain.upload.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import ktb.community.be.domain.upload.application.UploadService;
+import ktb.community.be.domain.upload.domain.UploadPurpose;
+import ktb.community.be.domain.upload.dto.PresignUploadRequestDto;
+import ktb.community.be.domain.upload.dto.PresignUploadResponseDto;
+import ktb.community.be.domain.upload.dto.UploadTokenResponseDto;
+import ktb.community.be.global.response.ApiResponse;
+import ktb.community.be.global.security.SecurityUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/uploads")
+public class UploadController {
+
+    private final UploadService uploadService;
+    private final SecurityUtil securityUtil;
+
+    @Operation(summary = "이미지 임시 업로드", description = "이미지를 저장하고 게시글/프로필에 첨부할 때 사용할 업로드 토큰을 발급합니다.")
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<List<UploadTokenResponseDto>>> stage(
+            @RequestPart("files") List<MultipartFile> files,
+            @RequestParam(defaultValue = "POST_IMAGE") UploadPurpose purpose) {
+        Long memberId = securityUtil.getCurrentMemberId();
+        List<UploadTokenResponseDto> tokens = uploadService.stage(memberId, files, purpose);
+        return ResponseEntity.ok(ApiResponse.success("파일이 업로드되었습니다.", tokens));
+    }
+
+    @Operation(summary = "직접 업로드 URL 발급", description = "저장소에 파일을 직접 올릴 수 있는 서명된 URL 과 업로드 토큰을 발급합니다.")
+    @PostMapping("/presign")
+    public ResponseEntity<ApiResponse<PresignUploadResponseDto>> presign(
+            @Valid @RequestBody PresignUploadRequestDto request) {
+        Long memberId = securityUtil.getCurrentMemberId();
+        PresignUploadResponseDto response = uploadService.presign(memberId, request);
+        return ResponseEntity.ok(ApiResponse.success("업로드 URL이 발급되었습니다.", response));
+    }
+
+    @Operation(summary = "직접 업로드 완료", description = "저장소에 올린 파일을 검증하고 업로드 토큰을 첨부 가능 상태로 전환합니다.")
+    @PostMapping("/{token}/complete")
+    public ResponseEntity<ApiResponse<UploadTokenResponseDto>> complete(@PathVariable String token) {
+        Long memberId = securityUtil.getCurrentMemberId();
+        UploadTokenResponseDto response = uploadService.complete(memberId, token);
+        return ResponseEntity.ok(ApiResponse.success("파일이 업로드되었습니다.", response));
+    }
+}
@@ -0,0 +1,212 @@
+package ktb.community.be.domain.upload.application;
+
+import ktb.community.be.domain.upload.dao.UploadTokenRepository;
+import ktb.community.be.domain.upload.domain.UploadPurpose;
+import ktb.community.be.domain.upload.domain.UploadStatus;
+import ktb.community.be.domain.upload.domain.UploadToken;
+import ktb.community.be.domain.upload.dto.PresignUploadRequestDto;
+import ktb.community.be.domain.upload.dto.PresignUploadResponseDto;
+import ktb.community.be.domain.upload.dto.UploadTokenResponseDto;
+import ktb.community.be.global.exception.CustomException;
+import ktb.community.be.global.exception.ErrorCode;
+import ktb.community.be.global.job.JobLeaseHandle;
+import ktb.community.be.global.job.JobLeaseManager;
+import ktb.community.be.global.storage.PresignedRequest;
+import ktb.community.be.global.storage.StoredFileService;
+import ktb.community.be.global.storage.StoredObjectInfo;
+import ktb.community.be.global.util.FileStorageService;
+import ktb.community.be.global.util.ImageType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 2단계 업로드
+ * 1) stage: 트랜잭션 밖에서 파일 저장 → 짧은 수명의 업로드 토큰 발급
+ * 2) claim: 게시글/프로필 저장 트랜잭션 안에서 토큰만 소비 (파일 I/O 없음)
+ * → DB 커넥션 점유 시간이 이미지 크기와 무관해짐
+ *
+ * 직접 업로드 (파일이 앱 서버를 거치지 않음)
+ * 1) presign: 형식/크기/해시를 먼저 받아 서명된 PUT URL(제공되지 않는 incoming/ 키)과 PENDING 토큰 발급
+ * 2) complete: 저장소에 올라온 파일 검증 → 저장 키로 이동, 파일 참조 추가 후 READY 로 전환 (이후 claim 은 동일)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadService {
+
+    private final UploadTokenRepository uploadTokenRepository;
+    private final FileStorageService fileStorageService;
+    private final StoredFileService storedFileService;
+    private final JobLeaseManager jobLeaseManager;
+
+    @Value("${upload.token.ttl:PT1H}")
+    private Duration tokenTtl;
+
+    @Value("${upload.staging.max-files:10}")
+    private int maxFiles;
+
+    @Value("${storage.presign.ttl:PT10M}")
+    private Duration presignTtl;
+
+    /**
+     * 파일 임시 저장 후 토큰 발급 (트랜잭션 없이 호출해야 함)
+     * - 토큰 저장에 실패하면 저장한 파일의 참조를 해제
+     */
+    public List<UploadTokenResponseDto> stage(Long memberId, List<MultipartFile> files, UploadPurpose purpose) {
+        if (files == null || files.isEmpty() || files.stream().anyMatch(file -> file == null || file.isEmpty())) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "업로드할 파일이 없습니다.");
+        }
+        if (files.size() > maxFiles) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "한 번에 최대 " + maxFiles + "개까지 업로드할 수 있습니다.");
+        }
+
+        // 여러 장이면 동시에 저장, 하나라도 실패하면 저장된 파일 참조는 storeFiles 가 해제
+        List<String> imageUrls = fileStorageService.storeFiles(files, purpose.getSubDir());
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<UploadToken> tokens = imageUrls.stream()
+                    .map(imageUrl -> UploadToken.builder()
+                            .token(UUID.randomUUID().toString())
+                            .memberId(memberId)
+                            .purpose(purpose)
+                            .imageUrl(imageUrl)
+                            .createdAt(now)
+                            .expiresAt(now.plus(tokenTtl))
+                            .build())
+                    .toList();
+            return uploadTokenRepository.saveAll(tokens).stream()
+                    .map(UploadTokenResponseDto::from)
+                    .toList();
+        } catch (RuntimeException e) {
+            storedFileService.releaseAll(imageUrls);
+            throw e;
+        }
+    }
+
+    /**
+     * 직접 업로드용 서명 URL 과 PENDING 토큰 발급
+     * - 저장 키는 클라이언트가 보낸 해시로 결정, 실제 내용은 저장소(S3 체크섬)/업로드 컨트롤러(로컬)가 검증
+     * - 같은 내용이 이미 저장되어 있으면 업로드 URL 없이 발급 → 바로 complete 호출
+     */
+    @Transactional
+    public PresignUploadResponseDto presign(Long memberId, PresignUploadRequestDto request) {
+        ImageType type = ImageType.fromContentType(request.getContentType())
+                .orElseThrow(() -> new CustomException(ErrorCode.UNSUPPORTED_IMAGE_TYPE));
+        String storageKey = FileStorageService.storageKeyOf(request.getPurpose().getSubDir(), request.getSha256(), type);
+
+        String token = UUID.randomUUID().toString();
+        PresignedRequest upload = fileStorageService.exists(storageKey)
+                ? null
+                : fileStorageService.presignUpload(FileStorageService.incomingKeyOf(token, storageKey), type,
+                        request.getSize(), request.getSha256(), presignTtl);
+
+        LocalDateTime now = LocalDateTime.now();
+        UploadToken uploadToken = uploadTokenRepository.save(UploadToken.builder()
+                .token(token)
+                .memberId(memberId)
+                .purpose(request.getPurpose())
+                .imageUrl(FileStorageService.UPLOAD_URL_PREFIX + storageKey)
+                .status(UploadStatus.PENDING)
+                .createdAt(now)
+                .expiresAt(now.plus(presignTtl))
+                .build());
+        return PresignUploadResponseDto.of(uploadToken, upload);
+    }
+
+    /**
+     * 직접 업로드 완료 처리
+     * - 저장소의 파일을 다시 검증 (형식, 용량, 해상도) → 통과하면 저장 키로 옮기고 파일 참조 추가 후 READY
+     * - PENDING 토큰이 남아 있는 동안은 고아 파일 정리 대상이 아님
+     */
+    @Transactional
+    public UploadTokenResponseDto complete(Long memberId, String token) {
+        UploadToken uploadToken = uploadTokenRepository.findAllForClaim(List.of(token)).stream()
+                .findFirst()
+                .filter(t -> t.getMemberId().equals(memberId))
+                .filter(t -> !t.isExpired(LocalDateTime.now()))
+                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_UPLOAD_TOKEN));
+        if (uploadToken.isReady()) {
+            return UploadTokenResponseDto.from(uploadToken);
+        }
+
+        String storageKey = FileStorageService.storageKeyOf(uploadToken.getImageUrl())
+                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_UPLOAD_TOKEN));
+        StoredObjectInfo info = fileStorageService.verifyUploadedObject(
+                FileStorageService.incomingKeyOf(token, storageKey), storageKey);
+
+        storedFileService.acquire(storageKey, FileStorageService.contentHashOf(storageKey), info.size());
+        uploadToken.markReady(LocalDateTime.now().plus(tokenTtl));
+        fileStorageService.scheduleVariants(uploadToken.getImageUrl());
+        return UploadTokenResponseDto.from(uploadToken);
+    }
+
+    /**
+     * 토큰 소비 → 요청 순서대로 이미지 URL 반환
+     * - 호출 측 트랜잭션 안에서만 사용 (첨부 엔티티 저장과 함께 커밋/롤백)
+     * - 파일 참조는 토큰에서 첨부 엔티티로 그대로 넘어감
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<String> claim(Long memberId, List<String> tokens, UploadPurpose purpose) {
+        if (tokens == null || tokens.isEmpty()) return List.of();
+        if (tokens.stream().distinct().count() != tokens.size()) {
+            throw new CustomException(ErrorCode.INVALID_UPLOAD_TOKEN, "같은 업로드 토큰이 중복되었습니다.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, UploadToken> found = uploadTokenRepository.findAllForClaim(tokens).stream()
+                .collect(Collectors.toMap(UploadToken::getToken, Function.identity()));
+
+        List<String> imageUrls = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            UploadToken uploadToken = found.get(token);
+            if (uploadToken == null
+                    || !uploadToken.getMemberId().equals(memberId)
+                    || uploadToken.getPurpose() != purpose
+                    || !uploadToken.isReady()
+                    || uploadToken.isExpired(now)) {
+                throw new CustomException(ErrorCode.INVALID_UPLOAD_TOKEN);
+            }
+            imageUrls.add(uploadToken.getImageUrl());
+        }
+        uploadTokenRepository.deleteAllByTokenIn(tokens);
+
+        // 임시 저장 중에 끝난 변형본 생성 결과는 첨부 전이라 기록되지 않았을 수 있음 → 커밋 후 다시 기록
+        imageUrls.forEach(fileStorageService::scheduleVariants);
+        return imageUrls;
+    }
+
+    /**
+     * 만료된 토큰 한 청크 정리 (파일 참조 해제 → 참조가 0이 된 파일은 고아 파일 정리 작업이 삭제)
+     * @return 정리한 토큰 수
+     */
+    @Transactional
+    public int sweepExpired(JobLeaseHandle lease, int chunkSize) {
+        jobLeaseManager.verifyHeld(lease);
+
+        List<UploadToken> expired = uploadTokenRepository.findExpiredForUpdate(LocalDateTime.now(), PageRequest.of(0, chunkSize));
+        if (expired.isEmpty()) return 0;
+
+        // PENDING 토큰은 파일 참조가 없음 → incoming/ 에 올라온 파일은 고아 파일 정리 작업이 삭제
+        storedFileService.releaseAll(expired.stream()
+                .filter(UploadToken::isReady)
+                .map(UploadToken::getImageUrl)
+                .toList());
+        uploadTokenRepository.deleteAllByTokenIn(expired.stream().map(UploadToken::getToken).toList());
+        return expired.size();
+    }
+}
@@ -0,0 +1,43 @@
+package ktb.community.be.domain.upload.dao;
+
+import jakarta.persistence.LockModeType;
+import ktb.community.be.domain.upload.domain.UploadToken;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UploadTokenRepository extends JpaRepository<UploadToken, String> {
+
+    /**
+     * 첨부할 토큰 조회 (스위퍼와 동시에 처리되지 않도록 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM UploadToken t WHERE t.token IN :tokens")
+    List<UploadToken> findAllForClaim(@Param("tokens") Collection<String> tokens);
+
+    /**
+     * 만료된 토큰 조회 (청크 단위)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM UploadToken t WHERE t.expiresAt <= :now ORDER BY t.expiresAt")
+    List<UploadToken> findExpiredForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM UploadToken t WHERE t.token IN :tokens")
+    int deleteAllByTokenIn(@Param("tokens") Collection<String> tokens);
+
+    /**
+     * 주어진 URL 중 아직 첨부되지 않은 업로드 토큰이 가리키는 URL
+     */
+    @Query("SELECT DISTINCT t.imageUrl FROM UploadToken t WHERE t.imageUrl IN :imageUrls")
+    List<String> findReferencedImageUrls(@Param("imageUrls") Collection<String> imageUrls);
+}
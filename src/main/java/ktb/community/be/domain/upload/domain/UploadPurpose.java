@@ -0,0 +1,17 @@
+package ktb.community.be.domain.upload.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업로드 용도 (저장 디렉토리 결정)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum UploadPurpose {
+
+    POST_IMAGE("posts/"),
+    PROFILE_IMAGE("profile/");
+
+    private final String subDir;
+}
@@ -0,0 +1,11 @@
+package ktb.community.be.domain.upload.domain;
+
+/**
+ * 업로드 토큰 상태
+ * - PENDING: 서명된 URL 로 저장소에 직접 올리는 중 (파일 참조 없음, 아직 첨부 불가)
+ * - READY: 파일이 검증/저장되어 첨부 가능 (파일 참조 1개 보유)
+ */
+public enum UploadStatus {
+    PENDING,
+    READY
+}
@@ -0,0 +1,65 @@
+package ktb.community.be.domain.upload.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 임시 저장(staging)된 업로드 파일에 대한 1회용 토큰
+ * - 게시글/프로필에 첨부(claim)되면 삭제
+ * - 만료 시각까지 첨부되지 않으면 스위퍼가 파일 참조를 해제하고 삭제
+ * - 직접 업로드(presigned URL)는 PENDING 으로 발급 → 업로드 완료 검증 후 READY
+ */
+@Entity
+@Table(name = "upload_token", indexes = {
+        @Index(name = "idx_upload_token_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_upload_token_image_url", columnList = "image_url")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class UploadToken {
+
+    @Id
+    @Column(length = 36)
+    private String token;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private UploadPurpose purpose;
+
+    @Column(length = 512, nullable = false)
+    private String imageUrl;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10, nullable = false)
+    @Builder.Default
+    private UploadStatus status = UploadStatus.READY;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public boolean isReady() {
+        return status == UploadStatus.READY;
+    }
+
+    /**
+     * 직접 업로드 완료 → 첨부 가능 상태로 전환하고 만료 시각 연장
+     */
+    public void markReady(LocalDateTime expiresAt) {
+        this.status = UploadStatus.READY;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,31 @@
+package ktb.community.be.domain.upload.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import ktb.community.be.domain.upload.domain.UploadPurpose;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignUploadRequestDto {
+
+    @NotNull(message = "업로드 용도를 입력해주세요.")
+    private UploadPurpose purpose;
+
+    @NotBlank(message = "파일 형식을 입력해주세요.")
+    private String contentType;
+
+    @NotNull(message = "파일 크기를 입력해주세요.")
+    @Positive(message = "파일 크기는 0보다 커야 합니다.")
+    private Long size;
+
+    // 파일 내용의 SHA-256 (소문자 16진수) → 저장 키가 되고, 저장소가 업로드 내용과 일치하는지 검증
+    @NotBlank(message = "파일 해시를 입력해주세요.")
+    @Pattern(regexp = "[0-9a-f]{64}", message = "파일 해시는 SHA-256 16진수 문자열이어야 합니다.")
+    private String sha256;
+}
@@ -0,0 +1,37 @@
+package ktb.community.be.domain.upload.dto;
+
+import ktb.community.be.domain.upload.domain.UploadToken;
+import ktb.community.be.global.storage.PresignedRequest;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class PresignUploadResponseDto {
+
+    private String token;
+    private String imageUrl;
+    private LocalDateTime expiresAt;
+    // false 면 같은 내용의 파일이 이미 저장되어 있음 → 업로드 없이 바로 완료 요청
+    private boolean uploadRequired;
+    private String uploadUrl;
+    private String uploadMethod;
+    private Map<String, String> uploadHeaders;
+
+    public static PresignUploadResponseDto of(UploadToken uploadToken, PresignedRequest request) {
+        return PresignUploadResponseDto.builder()
+                .token(uploadToken.getToken())
+                .imageUrl(uploadToken.getImageUrl())
+                .expiresAt(uploadToken.getExpiresAt())
+                .uploadRequired(request != null)
+                .uploadUrl(request != null ? request.url() : null)
+                .uploadMethod(request != null ? request.method() : null)
+                .uploadHeaders(request != null ? request.headers() : Map.of())
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package ktb.community.be.domain.upload.dto;
+
+import ktb.community.be.domain.upload.domain.UploadToken;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class UploadTokenResponseDto {
+
+    private String token;
+    private String imageUrl;
+    private LocalDateTime expiresAt;
+
+    public static UploadTokenResponseDto from(UploadToken uploadToken) {
+        return UploadTokenResponseDto.builder()
+                .token(uploadToken.getToken())
+                .imageUrl(uploadToken.getImageUrl())
+                .expiresAt(uploadToken.getExpiresAt())
+                .build();
+    }
+}
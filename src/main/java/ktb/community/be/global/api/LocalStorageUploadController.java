@@ -0,0 +1,106 @@
+package ktb.community.be.global.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import ktb.community.be.global.storage.LocalObjectStorage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 로컬 저장소용 직접 업로드 수신 (S3 의 presigned PUT 과 같은 역할)
+ * - 서명(HMAC)으로 키, 형식, 크기, 해시, 만료 시각을 검증 → 인증 토큰 없이 호출
+ * - 본문은 임시 파일로 스트리밍, 선언한 크기/해시와 다르면 저장하지 않음
+ * - 형식/해상도 검증은 업로드 완료 요청(POST /api/uploads/{token}/complete)에서 수행
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalStorageUploadController {
+
+    private final LocalObjectStorage localObjectStorage;
+
+    @Operation(summary = "로컬 저장소 직접 업로드", description = "presign 으로 발급받은 URL 로 파일 본문을 PUT 합니다.")
+    @PutMapping(LocalObjectStorage.DIRECT_UPLOAD_PATH + "**")
+    public ResponseEntity<Void> upload(@RequestParam String contentType,
+                                       @RequestParam long length,
+                                       @RequestParam String sha256,
+                                       @RequestParam long expires,
+                                       @RequestParam String signature,
+                                       HttpServletRequest request) throws IOException {
+        String uri = request.getRequestURI().substring(request.getContextPath().length());
+        String key = UriUtils.decode(uri.substring(LocalObjectStorage.DIRECT_UPLOAD_PATH.length()), StandardCharsets.UTF_8);
+
+        if (!localObjectStorage.verifyPutSignature(key, contentType, length, sha256, expires, signature)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        if (request.getContentLengthLong() >= 0 && request.getContentLengthLong() != length) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Path tempFile = Files.createTempFile(localObjectStorage.tempDirectory(), "direct-", ".tmp");
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long copied;
+            // 선언한 크기 + 1 바이트까지만 읽음 → 초과 여부만 확인하고 나머지는 버림
+            try (InputStream in = new DigestInputStream(request.getInputStream(), digest)) {
+                copied = Files.copy(new BoundedInputStream(in, length + 1), tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            if (copied != length || !HexFormat.of().formatHex(digest.digest()).equals(sha256)) {
+                return ResponseEntity.badRequest().build();
+            }
+
+            localObjectStorage.putIfAbsent(key, tempFile, contentType);
+            return ResponseEntity.ok().build();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static final class BoundedInputStream extends InputStream {
+
+        private final InputStream in;
+        private long remaining;
+
+        private BoundedInputStream(InputStream in, long limit) {
+            this.in = in;
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) return -1;
+            int b = in.read();
+            if (b >= 0) remaining--;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (remaining <= 0) return -1;
+            int n = in.read(buffer, offset, (int) Math.min(length, remaining));
+            if (n > 0) remaining -= n;
+            return n;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package ktb.community.be.global.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import ktb.community.be.global.storage.ObjectStorage;
+import ktb.community.be.global.util.FileStorageService;
+import ktb.community.be.global.util.ImageVariant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 업로드 파일 제공
+ * - 저장 파일명은 내용이 바뀌지 않으므로 파일명 기반 강한 ETag + immutable 캐시
+ * - 변형본이 아직 없어 원본으로 대신 응답할 때는 ETag 없이 no-cache (변형본이 생기면 바로 바뀌도록)
+ * - Range 요청(단일 구간) 지원
+ * - Tomcat sendfile 사용 가능 시 커널 zero-copy, 아니면 FileChannel.transferTo 로 전송
+ * - 로컬 디스크에 없는 파일(S3 등 원격 저장소)은 서명된 다운로드 URL 로 리다이렉트
+ * - 보안 필터 체인(JwtFilter)은 SecurityConfig 에서 제외 → 보안 헤더(nosniff)는 여기서 직접 설정
+ * - 게시글/프로필 이미지 키만 제공 (검증 전 직접 업로드 incoming/, 임시 파일 .tmp/ 는 404)
+ */
+@RestController
+@RequiredArgsConstructor
+public class UploadFileController {
+
+    private static final String CACHE_CONTROL_IMMUTABLE = "public, max-age=31536000, immutable";
+    private static final String CACHE_CONTROL_FALLBACK = "no-cache";
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ObjectStorage objectStorage;
+
+    @Value("${storage.presign.get-ttl:PT1H}")
+    private Duration presignGetTtl;
+
+    @Operation(summary = "업로드 파일 조회", description = "저장된 이미지를 제공합니다. size=thumbnail|medium 으로 변형본을 요청할 수 있습니다.")
+    @RequestMapping(value = FileStorageService.UPLOAD_URL_PREFIX + "**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(@RequestParam(required = false) String size,
+                      HttpServletRequest request,
+                      HttpServletResponse response) throws IOException {
+        String key = storageKeyOf(request);
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        if (!FileStorageService.isServedKey(key)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        Optional<ImageVariant> variant = ImageVariant.fromParameter(size);
+
+        Optional<Path> resolved = resolveLocalFile(key, variant);
+        if (resolved.isEmpty()) {
+            redirectToRemote(key, variant, response);
+            return;
+        }
+
+        Path file = resolved.get();
+        String fileName = file.getFileName().toString();
+        boolean fallback = variant.isPresent() && !fileName.equals(Path.of(variant.get().applyTo(key)).getFileName().toString());
+        String etag = fallback ? null : "\"" + fileName + "\"";
+        long length = Files.size(file);
+
+        if (etag != null) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, fallback ? CACHE_CONTROL_FALLBACK : CACHE_CONTROL_IMMUTABLE);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (etag != null && matchesIfNoneMatch(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(MediaTypeFactory.getMediaType(fileName)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString());
+
+        long start = 0;
+        long end = length - 1;
+
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        // ETag 가 없는 대체 응답에 If-Range 가 오면 전체 응답
+        if (rangeHeader != null && (ifRange == null || ifRange.equals(etag))) {
+            long[] range = parseRange(rangeHeader, length);
+            if (range == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (range.length == 2) {
+                start = range[0];
+                end = range[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if (RequestMethod.HEAD.name().equals(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        transfer(file, start, count, request, response);
+    }
+
+    private static String storageKeyOf(HttpServletRequest request) {
+        String uri = request.getRequestURI().substring(request.getContextPath().length());
+        return UriUtils.decode(uri.substring(FileStorageService.UPLOAD_URL_PREFIX.length()), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * size 파라미터에 맞는 변형본이 있으면 변형본, 없으면 원본 (로컬 디스크 저장소인 경우)
+     */
+    private Optional<Path> resolveLocalFile(String key, Optional<ImageVariant> variant) {
+        Optional<Path> variantFile = variant.flatMap(v -> objectStorage.localPath(v.applyTo(key)));
+        if (variantFile.isPresent()) {
+            return variantFile;
+        }
+        return objectStorage.localPath(key);
+    }
+
+    /**
+     * 원격 저장소의 객체는 서명된 URL 로 리다이렉트 (파일 내용이 서버를 거치지 않음)
+     */
+    private void redirectToRemote(String key, Optional<ImageVariant> variant,
+                                  HttpServletResponse response) throws IOException {
+        String target = key;
+        if (variant.isPresent() && objectStorage.stat(variant.get().applyTo(key)).isPresent()) {
+            target = variant.get().applyTo(key);
+        } else if (objectStorage.stat(key).isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        String location = objectStorage.presignGet(target, presignGetTtl);
+        if (location.startsWith(FileStorageService.UPLOAD_URL_PREFIX)) {
+            // 로컬 저장소인데 파일이 없는 경우 (자기 자신으로 리다이렉트 방지)
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        // 서명 URL 은 만료되므로 리다이렉트 응답은 캐시 기간을 짧게, 변형본 대신 원본이면 캐시하지 않음
+        boolean fallback = variant.isPresent() && target.equals(key);
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                fallback ? CACHE_CONTROL_FALLBACK : "private, max-age=" + presignGetTtl.dividedBy(2).toSeconds());
+        response.sendRedirect(location);
+    }
+
+    private void transfer(Path file, long start, long count,
+                          HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // Tomcat 이 응답 커밋 후 sendfile 로 직접 전송
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) break;
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    private static boolean matchesIfNoneMatch(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) value = value.substring(2);
+            if (value.equals("*") || value.equals(etag)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Range 헤더 해석
+     * - 단일 구간이면 {start, end}, 만족할 수 없는 구간이면 null
+     * - 형식 오류 또는 다중 구간이면 빈 배열 (전체 응답)
+     */
+    private static long[] parseRange(String rangeHeader, long length) {
+        if (!rangeHeader.startsWith("bytes=") || rangeHeader.contains(",")) {
+            return new long[0];
+        }
+
+        String spec = rangeHeader.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) return new long[0];
+
+        try {
+            String startPart = spec.substring(0, dash).trim();
+            String endPart = spec.substring(dash + 1).trim();
+
+            if (startPart.isEmpty()) {
+                // bytes=-N (마지막 N 바이트)
+                long suffixLength = Long.parseLong(endPart);
+                if (suffixLength <= 0 || length == 0) return null;
+                return new long[]{Math.max(0, length - suffixLength), length - 1};
+            }
+
+            long start = Long.parseLong(startPart);
+            long end = endPart.isEmpty() ? length - 1 : Math.min(Long.parseLong(endPart), length - 1);
+            if (start >= length || start > end) return null;
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+}
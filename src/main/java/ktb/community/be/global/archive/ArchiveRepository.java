@@ -0,0 +1,107 @@
+package ktb.community.be.global.archive;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 보관 테이블 접근 (MySQL 네이티브 SQL)
+ * - 보관 테이블은 원본과 같은 구조 (CREATE TABLE ... LIKE), 외래 키는 복사되지 않음
+ * - 원본 테이블에 컬럼이 추가되면(ddl-auto) 보관 테이블에도 NULL 허용 컬럼으로 추가
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArchiveRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 보관 테이블 생성 및 컬럼 동기화
+     */
+    public void ensureArchiveTable(ArchiveTable table) {
+        jdbcTemplate.getJdbcTemplate().execute(
+                "CREATE TABLE IF NOT EXISTS " + table.getArchiveTableName() + " LIKE " + table.getTableName());
+
+        Map<String, String> sourceColumns = columnTypes(table.getTableName());
+        Set<String> archiveColumns = columnTypes(table.getArchiveTableName()).keySet();
+        sourceColumns.forEach((column, type) -> {
+            if (!archiveColumns.contains(column)) {
+                jdbcTemplate.getJdbcTemplate().execute("ALTER TABLE " + table.getArchiveTableName()
+                        + " ADD COLUMN `" + column + "` " + type + " NULL");
+            }
+        });
+    }
+
+    /**
+     * 보관 대상 id 조회 (id 순서, 행 잠금 → 조회 후 복구/수정된 행을 옮기지 않도록)
+     */
+    public List<Long> findArchivableIdsForUpdate(ArchiveTable table, LocalDateTime cutoff, long afterId, int limit) {
+        String sql = "SELECT t.id FROM " + table.getTableName() + " t"
+                + " WHERE t.id > :afterId AND " + table.getArchivableCondition()
+                + " ORDER BY t.id LIMIT :limit FOR UPDATE";
+        return jdbcTemplate.queryForList(sql, new MapSqlParameterSource()
+                .addValue("afterId", afterId)
+                .addValue("cutoff", cutoff)
+                .addValue("limit", limit), Long.class);
+    }
+
+    /**
+     * 원본 → 보관 테이블로 이동 (columns: commonColumns 결과)
+     */
+    public int moveToArchive(ArchiveTable table, String columns, Collection<Long> ids) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+        jdbcTemplate.update("INSERT INTO " + table.getArchiveTableName() + " (" + columns + ")"
+                + " SELECT " + columns + " FROM " + table.getTableName() + " WHERE id IN (:ids)", params);
+        return jdbcTemplate.update("DELETE FROM " + table.getTableName() + " WHERE id IN (:ids)", params);
+    }
+
+    /**
+     * 보관 테이블에서 조건에 맞는 행 id 조회 (condition 은 고정 SQL 조각만 사용, 값은 params 로 전달)
+     */
+    public List<Long> findArchivedIds(ArchiveTable table, String condition, Map<String, ?> params) {
+        return jdbcTemplate.queryForList("SELECT id FROM " + table.getArchiveTableName() + " WHERE " + condition,
+                params, Long.class);
+    }
+
+    /**
+     * 보관 테이블 → 원본으로 복구
+     */
+    public int restore(ArchiveTable table, Collection<Long> ids) {
+        String columns = commonColumns(table);
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+        int restored = jdbcTemplate.update("INSERT INTO " + table.getTableName() + " (" + columns + ")"
+                + " SELECT " + columns + " FROM " + table.getArchiveTableName() + " WHERE id IN (:ids)", params);
+        jdbcTemplate.update("DELETE FROM " + table.getArchiveTableName() + " WHERE id IN (:ids)", params);
+        return restored;
+    }
+
+    /**
+     * 원본과 보관 테이블 양쪽에 있는 컬럼 (원본 순서, INSERT ... SELECT 컬럼 목록)
+     */
+    public String commonColumns(ArchiveTable table) {
+        Set<String> archiveColumns = columnTypes(table.getArchiveTableName()).keySet();
+        return columnTypes(table.getTableName()).keySet().stream()
+                .filter(archiveColumns::contains)
+                .map(column -> "`" + column + "`")
+                .collect(Collectors.joining(", "));
+    }
+
+    private Map<String, String> columnTypes(String tableName) {
+        Map<String, String> columns = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT COLUMN_NAME, COLUMN_TYPE FROM information_schema.COLUMNS"
+                        + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = :tableName ORDER BY ORDINAL_POSITION",
+                Map.of("tableName", tableName),
+                (RowCallbackHandler) rs -> columns.put(rs.getString("COLUMN_NAME"), rs.getString("COLUMN_TYPE")));
+        return columns;
+    }
+}
@@ -0,0 +1,35 @@
+package ktb.community.be.global.archive;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 보관(archive) 대상 테이블과 보관 조건
+ * - 선언 순서 = 보관 순서 (자식 테이블 먼저), 복구는 역순
+ * - 다른 행이 아직 참조 중인 행(대댓글이 남은 댓글, 자식이 남은 게시글)은 외래 키 때문에 옮기지 않음
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ArchiveTable {
+
+    POST_LIKE("post_like",
+            "t.is_deleted = 1 AND t.deleted_at < :cutoff"),
+    POST_IMAGE("post_image",
+            "t.is_deleted = 1 AND t.deleted_at < :cutoff"),
+    POST_COMMENT("post_comment",
+            "t.deleted_at < :cutoff " +
+                    "AND NOT EXISTS (SELECT 1 FROM post_comment r WHERE r.parent_comment_id = t.id)"),
+    POST("post",
+            "t.deleted_at < :cutoff AND t.cascade_pending = 0 " +
+                    "AND NOT EXISTS (SELECT 1 FROM post_comment c WHERE c.post_id = t.id) " +
+                    "AND NOT EXISTS (SELECT 1 FROM post_like l WHERE l.post_id = t.id) " +
+                    "AND NOT EXISTS (SELECT 1 FROM post_image i WHERE i.post_id = t.id)");
+
+    private final String tableName;
+    // 보관 대상 조건 (원본 테이블 별칭 t, 기준 시각 :cutoff)
+    private final String archivableCondition;
+
+    public String getArchiveTableName() {
+        return tableName + "_archive";
+    }
+}
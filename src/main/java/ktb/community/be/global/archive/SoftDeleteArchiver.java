@@ -0,0 +1,157 @@
+package ktb.community.be.global.archive;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import ktb.community.be.global.job.JobLeaseHandle;
+import ktb.community.be.global.job.JobLeaseManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 오래전에 Soft Delete 된 행을 보관 테이블({table}_archive)로 옮기는 청크 작업
+ * - 원본 테이블(post, post_comment, post_like, post_image)의 인덱스/버퍼 풀을 살아 있는 행 위주로 유지
+ * - id 순서로 청크 조회 → 청크마다 짧은 트랜잭션에서 INSERT ... SELECT + DELETE
+ * - 청크마다 리스(fencing token)를 검증하여 리스를 잃은 노드의 쓰기를 차단
+ * - 복구가 필요한 기능은 restore 로 보관 테이블에서 다시 읽어 올 수 있음
+ */
+@Slf4j
+@Component
+public class SoftDeleteArchiver {
+
+    public static final String JOB_NAME = "soft-delete-archive";
+
+    private final ArchiveRepository archiveRepository;
+    private final JobLeaseManager jobLeaseManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<ArchiveTable, Counter> archivedCounters = new EnumMap<>(ArchiveTable.class);
+    private volatile boolean tablesReady;
+
+    @Value("${archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${archive.min-age:P90D}")
+    private Duration minAge;
+
+    @Value("${archive.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${archive.chunk-pause:PT0.1S}")
+    private Duration chunkPause;
+
+    public SoftDeleteArchiver(ArchiveRepository archiveRepository,
+                              JobLeaseManager jobLeaseManager,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry) {
+        this.archiveRepository = archiveRepository;
+        this.jobLeaseManager = jobLeaseManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        for (ArchiveTable table : ArchiveTable.values()) {
+            archivedCounters.put(table, Counter.builder("archive.rows")
+                    .tag("table", table.getTableName())
+                    .description("보관 테이블로 옮긴 행 수")
+                    .register(meterRegistry));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 보관 테이블 준비 (DDL 은 암묵적 커밋을 일으키므로 트랜잭션 밖, 애플리케이션 시작 시 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepareTables() {
+        if (!enabled) return;
+        try {
+            for (ArchiveTable table : ArchiveTable.values()) {
+                archiveRepository.ensureArchiveTable(table);
+            }
+            tablesReady = true;
+        } catch (Exception e) {
+            log.warn("[보관 테이블 준비 실패] {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 행 전체를 테이블별로 청크 단위 이동
+     */
+    public Result run(JobLeaseHandle lease) {
+        prepareTables();
+        if (!tablesReady) return new Result(Map.of());
+
+        LocalDateTime cutoff = LocalDateTime.now().minus(minAge);
+        Map<ArchiveTable, Long> archived = new EnumMap<>(ArchiveTable.class);
+        for (ArchiveTable table : ArchiveTable.values()) {
+            archived.put(table, archiveTable(lease, table, cutoff));
+        }
+
+        Result result = new Result(archived);
+        log.info("[보관 작업 완료] {}", result.archived());
+        return result;
+    }
+
+    private long archiveTable(JobLeaseHandle lease, ArchiveTable table, LocalDateTime cutoff) {
+        String columns = archiveRepository.commonColumns(table);
+        long archived = 0;
+        long afterId = 0;
+
+        while (true) {
+            long cursor = afterId;
+            List<Long> ids = transactionTemplate.execute(status -> {
+                jobLeaseManager.verifyHeld(lease);
+                List<Long> chunk = archiveRepository.findArchivableIdsForUpdate(table, cutoff, cursor, chunkSize);
+                if (!chunk.isEmpty()) {
+                    archiveRepository.moveToArchive(table, columns, chunk);
+                }
+                return chunk;
+            });
+            if (ids == null || ids.isEmpty()) break;
+
+            archived += ids.size();
+            archivedCounters.get(table).increment(ids.size());
+            afterId = ids.get(ids.size() - 1);
+            if (ids.size() < chunkSize) break;
+            pause();
+        }
+        return archived;
+    }
+
+    /**
+     * 보관된 행을 원본 테이블로 복구 (호출 측 트랜잭션 안에서 실행)
+     * - condition 은 고정 SQL 조각만 사용하고 값은 params 로 전달
+     * @return 복구한 행 id (보관 기능이 꺼져 있거나 대상이 없으면 빈 목록)
+     */
+    public List<Long> restore(ArchiveTable table, String condition, Map<String, ?> params) {
+        if (!enabled || !tablesReady) return List.of();
+
+        List<Long> ids = archiveRepository.findArchivedIds(table, condition, params);
+        if (!ids.isEmpty()) {
+            archiveRepository.restore(table, ids);
+        }
+        return ids;
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(chunkPause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("보관 작업 중단", e);
+        }
+    }
+
+    public record Result(Map<ArchiveTable, Long> archived) {
+    }
+}
@@ -0,0 +1,30 @@
+package ktb.community.be.global.config;
+
+import ktb.community.be.global.domain.NodeIdLease;
+import ktb.community.be.global.domain.TimeSortedIdGenerator;
+import ktb.community.be.global.domain.TimeSortedIds;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.function.Supplier;
+
+/**
+ * 시간순 ID 생성기에 이 컨텍스트의 NodeIdLease 연결 (spring.jpa.properties.id.node-id=auto)
+ * - NodeIdLease 는 JPA(job_lease) 에 의존하므로 EntityManagerFactory 생성 시점에는 찾지 않고 첫 ID 발급 때 조회
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.jpa.properties." + TimeSortedIdGenerator.NODE_ID_SETTING,
+        havingValue = TimeSortedIdGenerator.AUTO_NODE_ID, matchIfMissing = true)
+public class NodeIdLeaseConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer nodeIdLeaseCustomizer(ObjectProvider<NodeIdLease> nodeIdLease) {
+        SingletonSupplier<NodeIdLease> lease = SingletonSupplier.of(nodeIdLease::getObject);
+        Supplier<TimeSortedIds> ids = () -> lease.obtain().ids();
+        return properties -> properties.put(TimeSortedIdGenerator.NODE_ID_SOURCE_SETTING, ids);
+    }
+}
@@ -0,0 +1,19 @@
+package ktb.community.be.global.config;
+
+import ktb.community.be.global.query.QueryCountInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate SQL 집계 (QueryCountFilter, 테스트의 쿼리 수 검증에서 사용)
+ */
+@Configuration
+public class QueryCountConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountInspectorCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+    }
+}
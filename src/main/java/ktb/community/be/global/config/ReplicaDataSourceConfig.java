@@ -0,0 +1,93 @@
+package ktb.community.be.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import ktb.community.be.global.datasource.DataSourceType;
+import ktb.community.be.global.datasource.ReadYourWritesTracker;
+import ktb.community.be.global.datasource.ReplicaLagMonitor;
+import ktb.community.be.global.datasource.ReplicationRoutingDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 분리 (datasource.replica.url 설정 시에만 활성화)
+ * - Primary 풀: spring.datasource.* (기존 설정 그대로), 복제본 풀: datasource.replica.*
+ * - 애플리케이션이 쓰는 DataSource 는 LazyConnectionDataSourceProxy(ReplicationRoutingDataSource)
+ * - 설정이 없으면 Spring Boot 기본 단일 DataSource 사용
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.url")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${datasource.replica.url}") String url,
+                                              @Value("${datasource.replica.username:${spring.datasource.username}}") String username,
+                                              @Value("${datasource.replica.password:${spring.datasource.password}}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(StringRedisTemplate redisTemplate,
+                                                       @Value("${datasource.replica.sticky-window:PT5S}") Duration window) {
+        return new ReadYourWritesTracker(redisTemplate, window);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               @Value("${datasource.replica.max-lag:PT2S}") Duration maxLag,
+                                               @Value("${datasource.replica.lag-check-interval:PT1S}") Duration checkInterval,
+                                               @Value("${datasource.replica.lag-stale-after:PT5S}") Duration staleAfter,
+                                               @Value("${datasource.replica.lag-check-enabled:true}") boolean lagCheckEnabled,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaDataSource, maxLag, checkInterval, staleAfter, lagCheckEnabled, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReadYourWritesTracker readYourWritesTracker,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 MeterRegistry meterRegistry) {
+        ReplicationRoutingDataSource routingDataSource =
+                new ReplicationRoutingDataSource(readYourWritesTracker, replicaLagMonitor, meterRegistry);
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primaryDataSource,
+                DataSourceType.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -5,18 +5,28 @@ import ktb.community.be.global.security.JwtAuthenticationEntryPoint;
 import ktb.community.be.global.security.TokenBlacklistService;
 import ktb.community.be.global.security.TokenProvider;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationManagers;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
 import org.springframework.web.filter.CorsFilter;
 
+import java.util.List;
+
 import static org.springframework.security.config.Customizer.withDefaults;
 
 @Configuration
@@ -30,11 +40,24 @@ public class SecurityConfig {
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
     private final TokenBlacklistService tokenBlacklistService;
 
+    // /actuator/prometheus 를 토큰 없이 수집할 수 있는 네트워크 (CIDR, 비어 있으면 ADMIN 만)
+    @Value("${metrics.scrape.allowed-networks:}")
+    private List<String> scrapeAllowedNetworks;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
     }
 
+    /**
+     * 업로드 파일 제공은 인증이 필요 없으므로 보안 필터 체인(JwtFilter 포함) 자체를 건너뜀
+     * - 로컬 저장소 직접 업로드는 URL 서명으로 검증
+     */
+    @Bean
+    public WebSecurityCustomizer webSecurityCustomizer() {
+        return web -> web.ignoring().requestMatchers("/uploads/**", "/storage/local/**");
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -60,9 +83,10 @@ public class SecurityConfig {
 
                 // 인증 및 접근 권한 설정
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers(
-                                "/uploads/**"
-                        ).permitAll()
+                        .requestMatchers("/actuator/loggers/**", "/actuator/flightrecorder/**")
+                        .hasRole("ADMIN") // 운영 중 로그 레벨 변경, JFR 녹화
+                        .requestMatchers("/actuator/prometheus")
+                        .access(scrapeAccess()) // 메트릭 수집: 수집 서버 네트워크 또는 ADMIN
                         .requestMatchers(
                                 "/swagger-ui/**",
                                 "/v3/api-docs/**",
@@ -85,4 +109,18 @@ public class SecurityConfig {
 
         return http.build();
     }
+
+    /**
+     * 수집 서버 네트워크에서 온 요청이거나 ADMIN 이면 허용
+     * - 원격 주소 기준 (프록시 뒤라면 프록시가 아닌 수집 서버 주소가 보이도록 forward-headers 설정 필요)
+     */
+    private AuthorizationManager<RequestAuthorizationContext> scrapeAccess() {
+        List<IpAddressMatcher> networks = scrapeAllowedNetworks.stream()
+                .filter(network -> !network.isBlank())
+                .map(network -> new IpAddressMatcher(network.trim()))
+                .toList();
+        AuthorizationManager<RequestAuthorizationContext> fromScrapeNetwork = (authentication, context) ->
+                new AuthorizationDecision(networks.stream().anyMatch(network -> network.matches(context.getRequest())));
+        return AuthorizationManagers.anyOf(fromScrapeNetwork, AuthorityAuthorizationManager.hasRole("ADMIN"));
+    }
 }
@@ -0,0 +1,29 @@
+package ktb.community.be.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ktb.community.be.global.timing.ServerTimingSessionListener;
+import ktb.community.be.global.timing.TimedJackson2HttpMessageConverter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * Server-Timing 구간 수집 (ServerTimingFilter)
+ * - db: Hibernate 세션 이벤트, serialize: 기본 Jackson 컨버터를 대체
+ */
+@Configuration
+public class ServerTimingConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer serverTimingSessionListenerCustomizer() {
+        return properties -> properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                ServerTimingSessionListener.class.getName());
+    }
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJackson2HttpMessageConverter(objectMapper);
+    }
+}
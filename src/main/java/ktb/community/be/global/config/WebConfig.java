@@ -2,7 +2,6 @@ package ktb.community.be.global.config;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
@@ -17,9 +16,5 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowCredentials(true);
     }
 
-    @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("file:/Users/sieun/KakaoTechBootcamp/6,7th-week/be/uploads/");
-    }
+    // 업로드 파일(/uploads/**) 제공은 UploadFileController 에서 처리 (Range, ETag, 캐시 헤더)
 }
@@ -0,0 +1,9 @@
+package ktb.community.be.global.datasource;
+
+/**
+ * 라우팅 대상 커넥션 풀
+ */
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,95 @@
+package ktb.community.be.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 쓰기 직후 일정 시간 동안 해당 회원의 읽기를 Primary 로 고정 (read-your-writes)
+ * - 같은 노드: 메모리 맵, 다른 노드: Redis 키(TTL = 고정 시간)로 공유
+ * - 한 요청 안에서는 판정 결과를 요청 속성에 보관하여 Redis 조회를 한 번만 수행
+ * - Redis 장애 시에는 Primary 로 고정 (복제 지연으로 방금 쓴 글이 안 보이는 것보다 안전)
+ * - 만료된 메모리 항목은 쓰기 기록 시 고정 시간마다 한 번 정리 (맵 크기 = 최근 고정 시간 동안 쓴 회원 수)
+ */
+@Slf4j
+public class ReadYourWritesTracker {
+
+    private static final String KEY_PREFIX = "rw-sticky:";
+    private static final String REQUEST_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".sticky";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration window;
+    private final ConcurrentMap<Long, Long> localDeadlines = new ConcurrentHashMap<>();
+    private final AtomicLong nextPruneAt = new AtomicLong(System.nanoTime());
+
+    public ReadYourWritesTracker(StringRedisTemplate redisTemplate, Duration window) {
+        this.redisTemplate = redisTemplate;
+        this.window = window;
+    }
+
+    /**
+     * 쓰기 트랜잭션 커밋 후 호출
+     */
+    public void recordWrite(Long memberId) {
+        long now = System.nanoTime();
+        localDeadlines.put(memberId, now + window.toNanos());
+        pruneExpired(now);
+        cacheInRequest(true);
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + memberId, "1", window.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.warn("[read-your-writes 기록 실패] memberId={}, {}", memberId, e.getMessage());
+        }
+    }
+
+    public boolean isSticky(Long memberId) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null && attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Boolean cached) {
+            return cached;
+        }
+
+        boolean sticky = isStickyLocally(memberId) || isStickyInRedis(memberId);
+        cacheInRequest(sticky);
+        return sticky;
+    }
+
+    private boolean isStickyLocally(Long memberId) {
+        Long deadline = localDeadlines.get(memberId);
+        if (deadline == null) return false;
+        if (deadline - System.nanoTime() > 0) return true;
+        localDeadlines.remove(memberId, deadline);
+        return false;
+    }
+
+    /**
+     * 고정 시간마다 한 스레드만 만료 항목 제거 (다시 읽히지 않는 회원의 항목이 계속 쌓이지 않도록)
+     */
+    private void pruneExpired(long now) {
+        long pruneAt = nextPruneAt.get();
+        if (now - pruneAt < 0 || !nextPruneAt.compareAndSet(pruneAt, now + window.toNanos())) return;
+        localDeadlines.values().removeIf(deadline -> deadline - now <= 0);
+    }
+
+    private boolean isStickyInRedis(Long memberId) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + memberId));
+        } catch (Exception e) {
+            log.warn("[read-your-writes 조회 실패 → Primary 사용] memberId={}, {}", memberId, e.getMessage());
+            return true;
+        }
+    }
+
+    private void cacheInRequest(boolean sticky) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(REQUEST_ATTRIBUTE, sticky, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package ktb.community.be.global.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 복제본 지연 감시
+ * - SHOW REPLICA STATUS 의 Seconds_Behind_Source 를 주기적으로 조회 (MySQL 8.0.22 미만은 SHOW SLAVE STATUS)
+ * - 지연이 상한을 넘거나, 복제가 멈췄거나(NULL / 결과 없음), 조회에 실패하면 읽기를 Primary 로 돌림
+ * - 전용 스레드에서 조회 (다른 @Scheduled 작업이 오래 걸려도 값이 멈추지 않음)
+ * - 마지막 성공 조회가 stale-after 보다 오래되면 (조회가 멈추거나 계속 걸려 있으면) 사용 불가로 취급
+ * - lag-check-enabled=false 면 항상 사용 가능으로 취급 (복제 없이 DB 두 개로 로컬 테스트할 때)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    private final long staleAfterNanos;
+    private final boolean lagCheckEnabled;
+    private ScheduledExecutorService executor;
+    private volatile boolean usable;
+    private volatile long checkedAt;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, Duration checkInterval, Duration staleAfter,
+                             boolean lagCheckEnabled, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        // 조회가 걸려 있어도 다음 조회가 이어지도록 (걸려 있는 동안은 stale 로 사용 중단)
+        this.replicaJdbcTemplate.setQueryTimeout((int) Math.max(1, staleAfter.toSeconds()));
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+        this.staleAfterNanos = staleAfter.toNanos();
+        this.lagCheckEnabled = lagCheckEnabled;
+        this.usable = !lagCheckEnabled;
+        this.checkedAt = System.nanoTime();
+
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .baseUnit("seconds")
+                .description("복제본 지연 (알 수 없으면 NaN)")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.usable", this, monitor -> monitor.isReplicaUsable() ? 1 : 0)
+                .description("읽기를 복제본으로 보내는지 여부")
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaUsable() {
+        if (!lagCheckEnabled) return true;
+        return usable && System.nanoTime() - checkedAt <= staleAfterNanos;
+    }
+
+    public void start() {
+        if (!lagCheckEnabled) return;
+        executor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("replica-lag-monitor")
+                .daemon(true)
+                .factory());
+        executor.scheduleWithFixedDelay(this::check, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    void check() {
+        if (!lagCheckEnabled) return;
+        try {
+            update(readLagSeconds());
+        } catch (RuntimeException e) {
+            // DataAccessException 외 예외도 잡음 → 예외가 나가면 이후 조회가 멈춤
+            if (usable) {
+                log.warn("[복제본 지연 조회 실패 → Primary 로 읽기] {}", e.getMessage());
+            }
+            update(null);
+        }
+    }
+
+    /**
+     * 지연(초) 반영, null = 알 수 없음 (복제 중단/조회 실패)
+     */
+    void update(Long lag) {
+        boolean wasUsable = usable;
+        lagSeconds = lag == null ? Double.NaN : lag;
+        usable = lag != null && lag <= maxLag.toSeconds();
+        checkedAt = System.nanoTime();
+        if (wasUsable != usable) {
+            log.info("[복제본 읽기 {}] lag={}s, max={}s", usable ? "재개" : "중단", lag, maxLag.toSeconds());
+        }
+    }
+
+    private Long readLagSeconds() {
+        try {
+            return firstLag("SHOW REPLICA STATUS", "Seconds_Behind_Source");
+        } catch (BadSqlGrammarException e) {
+            return firstLag("SHOW SLAVE STATUS", "Seconds_Behind_Master");
+        }
+    }
+
+    private Long firstLag(String sql, String column) {
+        List<Long> lags = replicaJdbcTemplate.query(sql, (rs, rowNum) -> {
+            long lag = rs.getLong(column);
+            return rs.wasNull() ? null : lag;
+        });
+        return lags.isEmpty() ? null : lags.get(0);
+    }
+}
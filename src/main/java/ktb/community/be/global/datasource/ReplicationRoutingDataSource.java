@@ -0,0 +1,105 @@
+package ktb.community.be.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션은 복제본, 그 외는 Primary 로 보내는 라우팅 DataSource
+ * - 트랜잭션 속성이 정해진 뒤 커넥션을 얻도록 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용
+ *   (JpaTransactionManager 는 readOnly 표시 전에 커넥션을 먼저 요청함)
+ * - 복제본 지연이 크거나, 회원이 방금 쓰기를 했으면 readOnly 여도 Primary
+ * - 쓰기 트랜잭션이 커밋되면 해당 회원을 read-your-writes 대상으로 기록
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Object WRITE_TRACKING_KEY = new Object();
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final Counter primaryWrites;
+    private final Counter primaryLagFallbacks;
+    private final Counter primaryStickyReads;
+    private final Counter replicaReads;
+
+    public ReplicationRoutingDataSource(ReadYourWritesTracker readYourWritesTracker,
+                                        ReplicaLagMonitor replicaLagMonitor,
+                                        MeterRegistry meterRegistry) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.primaryWrites = routingCounter(meterRegistry, DataSourceType.PRIMARY, "write");
+        this.primaryLagFallbacks = routingCounter(meterRegistry, DataSourceType.PRIMARY, "replica-lag");
+        this.primaryStickyReads = routingCounter(meterRegistry, DataSourceType.PRIMARY, "read-your-writes");
+        this.replicaReads = routingCounter(meterRegistry, DataSourceType.REPLICA, "read-only");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWriteOfCurrentMember();
+            primaryWrites.increment();
+            return DataSourceType.PRIMARY;
+        }
+        if (!replicaLagMonitor.isReplicaUsable()) {
+            primaryLagFallbacks.increment();
+            return DataSourceType.PRIMARY;
+        }
+        Long memberId = currentMemberId();
+        if (memberId != null && readYourWritesTracker.isSticky(memberId)) {
+            primaryStickyReads.increment();
+            return DataSourceType.PRIMARY;
+        }
+        replicaReads.increment();
+        return DataSourceType.REPLICA;
+    }
+
+    /**
+     * 쓰기 트랜잭션마다 한 번만 커밋 후 기록을 등록
+     */
+    private void trackWriteOfCurrentMember() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_TRACKING_KEY)) {
+            return;
+        }
+        Long memberId = currentMemberId();
+        if (memberId == null) return;
+
+        TransactionSynchronizationManager.bindResource(WRITE_TRACKING_KEY, memberId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.recordWrite(memberId);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_TRACKING_KEY);
+            }
+        });
+    }
+
+    /**
+     * JwtFilter 가 넣어 둔 인증 정보의 회원 ID (DB 조회 없이, 비로그인/스케줄러는 null)
+     */
+    private Long currentMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) return null;
+        try {
+            return Long.valueOf(authentication.getName());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, DataSourceType target, String reason) {
+        return Counter.builder("datasource.routing")
+                .tag("target", target.name().toLowerCase())
+                .tag("reason", reason)
+                .description("커넥션 라우팅 결과")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,138 @@
+package ktb.community.be.global.domain;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import ktb.community.be.global.job.JobLeaseHandle;
+import ktb.community.be.global.job.JobLeaseManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 시간순 ID 노드 번호 배정 (spring.jpa.properties.id.node-id=auto)
+ * - 시작 시 id-node-0 ~ id-node-31 리스 중 비어 있는 것 하나를 획득, 실행 중에는 TTL/3 주기 하트비트로 유지
+ * - 마지막 획득/갱신 시작 시각 + TTL 이 지나면 ID 발급 중단 → 리스가 만료되어 다른 인스턴스가 같은 번호를 가져가도 겹치지 않음
+ * - 리스를 잃으면 다음 하트비트에서 다시 획득 (가능하면 같은 번호)
+ * - 번호별 획득 중 DB 오류는 다음 번호로 넘어가고, 한 바퀴 돌아도 못 얻으면 백오프 후 재시도 (그래도 실패하면 시작 중단)
+ * - 배정 상태는 인스턴스(애플리케이션 컨텍스트)별 → TimeSortedIdGenerator 에는 NodeIdLeaseConfig 가 Hibernate 설정으로 전달
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.jpa.properties." + TimeSortedIdGenerator.NODE_ID_SETTING,
+        havingValue = TimeSortedIdGenerator.AUTO_NODE_ID, matchIfMissing = true)
+public class NodeIdLease {
+
+    private static final String LEASE_PREFIX = "id-node-";
+    private static final int CLAIM_ATTEMPTS = 5;
+    private static final long CLAIM_BACKOFF_MILLIS = 200;
+
+    private volatile Claim current;
+
+    private final JobLeaseManager jobLeaseManager;
+    private final Duration ttl;
+    private final ScheduledExecutorService heartbeatExecutor;
+
+    public NodeIdLease(JobLeaseManager jobLeaseManager,
+                       @Value("${id.node-lease.ttl:PT30S}") Duration ttl) {
+        this.jobLeaseManager = jobLeaseManager;
+        this.ttl = ttl;
+        this.heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "id-node-lease");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 배정된 노드 번호의 ID 발급기 (리스가 유효할 때만)
+     */
+    public TimeSortedIds ids() {
+        Claim claim = current;
+        if (claim == null || System.nanoTime() - claim.validUntilNanos() > 0) {
+            throw new IllegalStateException("노드 번호 리스가 없거나 만료되어 ID 를 발급할 수 없습니다.");
+        }
+        return TimeSortedIds.forNode(claim.nodeId());
+    }
+
+    @PostConstruct
+    public void claim() throws InterruptedException {
+        for (int attempt = 1; current == null; attempt++) {
+            Optional<Claim> claimed = acquire(-1);
+            if (claimed.isPresent()) {
+                current = claimed.get();
+            } else if (attempt >= CLAIM_ATTEMPTS) {
+                throw new IllegalStateException("비어 있는 노드 번호를 얻지 못했습니다 (동시에 최대 "
+                        + (TimeSortedIds.MAX_NODE_ID + 1) + "개 인스턴스, " + CLAIM_ATTEMPTS + "회 시도)");
+            } else {
+                // 함께 시작한 인스턴스끼리 같은 순서로 다시 부딪히지 않도록 지수 백오프 + 지터
+                long backoff = CLAIM_BACKOFF_MILLIS << (attempt - 1);
+                log.warn("[노드 번호 배정 실패] {}회차, {}ms 후 재시도", attempt, backoff);
+                Thread.sleep(backoff + ThreadLocalRandom.current().nextLong(backoff));
+            }
+        }
+        long periodMillis = Math.max(ttl.toMillis() / 3, 1);
+        heartbeatExecutor.scheduleWithFixedDelay(this::heartbeat, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void heartbeat() {
+        Claim claim = current;
+        try {
+            long startedAt = System.nanoTime();
+            if (claim != null && !claim.lease().isLost() && jobLeaseManager.renew(claim.lease(), ttl)) {
+                current = new Claim(claim.nodeId(), claim.lease(), startedAt + ttl.toNanos());
+                return;
+            }
+            acquire(claim != null ? claim.nodeId() : -1).ifPresent(reclaimed -> current = reclaimed);
+        } catch (RuntimeException e) {
+            log.warn("[노드 번호 리스 갱신 중 오류] {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 비어 있는 번호의 리스 획득 (preferred 가 있으면 먼저 시도)
+     * - 번호별 DB 오류는 경고만 남기고 다음 번호 시도
+     */
+    private Optional<Claim> acquire(int preferred) {
+        IntStream candidates = IntStream.concat(
+                preferred >= 0 ? IntStream.of(preferred) : IntStream.empty(),
+                IntStream.rangeClosed(0, TimeSortedIds.MAX_NODE_ID).filter(nodeId -> nodeId != preferred));
+        for (int nodeId : candidates.toArray()) {
+            long startedAt = System.nanoTime();
+            Optional<JobLeaseHandle> lease;
+            try {
+                lease = jobLeaseManager.tryAcquire(LEASE_PREFIX + nodeId, ttl);
+            } catch (DataAccessException e) {
+                log.warn("[노드 번호 리스 획득 중 오류] nodeId={}, error={}", nodeId, e.getMessage());
+                continue;
+            }
+            if (lease.isPresent()) {
+                log.info("[노드 번호 배정] nodeId={}, owner={}", nodeId, jobLeaseManager.getNodeId());
+                return Optional.of(new Claim(nodeId, lease.get(), startedAt + ttl.toNanos()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatExecutor.shutdownNow();
+        Claim claim = current;
+        if (claim != null) {
+            current = null;
+            jobLeaseManager.release(claim.lease());
+        }
+    }
+
+    private record Claim(int nodeId, JobLeaseHandle lease, long validUntilNanos) {
+    }
+}
@@ -0,0 +1,20 @@
+package ktb.community.be.global.domain;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * 시간순 정렬 ID (애플리케이션에서 INSERT 전에 발급 → IDENTITY 와 달리 JDBC 배치 INSERT 가능)
+ * - 구성은 {@link TimeSortedIds} 참고
+ */
+@IdGeneratorType(TimeSortedIdGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface TimeSortedId {
+}
@@ -0,0 +1,60 @@
+package ktb.community.be.global.domain;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * {@link TimeSortedId} 필드에 ID 를 채우는 Hibernate 생성기
+ * - 노드 번호는 Hibernate 설정 id.node-id (spring.jpa.properties.id.node-id) 에서 읽음
+ * - auto (기본값) 면 시작 시 NodeIdLease 가 job_lease 테이블로 비어 있는 번호를 배정
+ *   (같은 JVM 의 컨텍스트마다 따로 배정되도록 NodeIdLeaseConfig 가 id.node-id-source 설정으로 발급기 공급자를 넘김)
+ */
+public class TimeSortedIdGenerator implements BeforeExecutionGenerator {
+
+    public static final String NODE_ID_SETTING = "id.node-id";
+    public static final String AUTO_NODE_ID = "auto";
+    public static final String NODE_ID_SOURCE_SETTING = "id.node-id-source";
+
+    private final Supplier<TimeSortedIds> ids;
+
+    public TimeSortedIdGenerator(TimeSortedId config, Member member, CustomIdGeneratorCreationContext context) {
+        Map<String, Object> settings = context.getServiceRegistry()
+                .requireService(ConfigurationService.class)
+                .getSettings();
+        Object nodeId = settings.get(NODE_ID_SETTING);
+        String value = nodeId == null ? AUTO_NODE_ID : nodeId.toString().trim();
+        if (AUTO_NODE_ID.equals(value)) {
+            this.ids = autoIds(settings.get(NODE_ID_SOURCE_SETTING));
+        } else {
+            TimeSortedIds fixed = TimeSortedIds.forNode(Integer.parseInt(value));
+            this.ids = () -> fixed;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<TimeSortedIds> autoIds(Object source) {
+        if (!(source instanceof Supplier<?> supplier)) {
+            throw new IllegalStateException("node-id=auto 인데 " + NODE_ID_SOURCE_SETTING + " 설정이 없습니다.");
+        }
+        return (Supplier<TimeSortedIds>) supplier;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return ids.get().next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,82 @@
+package ktb.community.be.global.domain;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간순 정렬 ID 발급기 (Snowflake 방식, 53비트)
+ * - [41비트: 기준 시각 이후 밀리초][5비트: 노드 번호][7비트: 같은 밀리초 안의 순번]
+ * - 53비트 이내라 JavaScript Number 로도 손실 없이 표현 가능
+ * - 나중에 발급된 ID 가 항상 더 큼 → 커서 페이지네이션 키로 사용 가능
+ * - 시계가 뒤로 가면 마지막 시각을 유지하고, 순번이 넘치면 다음 밀리초를 미리 사용 (대기 없음)
+ * - 노드 번호는 동시에 실행되는 인스턴스마다 달라야 함 (0 ~ 31)
+ */
+public final class TimeSortedIds {
+
+    /**
+     * 기준 시각 (2025-01-01T00:00:00Z, 약 69년 사용 가능)
+     */
+    public static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int NODE_BITS = 5;
+    private static final int SEQUENCE_BITS = 7;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    public static final int SEQUENCES_PER_MILLI = 1 << SEQUENCE_BITS;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final ConcurrentMap<Integer, TimeSortedIds> BY_NODE = new ConcurrentHashMap<>();
+
+    private final int nodeId;
+    private final LongSupplier clock;
+    private long lastTimestamp = -1;
+    private long sequence;
+
+    TimeSortedIds(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 번호는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    /**
+     * 노드별 공유 인스턴스 (모든 엔티티가 같은 발급기를 사용 → 테이블 간에도 ID 가 겹치지 않음)
+     */
+    public static TimeSortedIds forNode(int nodeId) {
+        return BY_NODE.computeIfAbsent(nodeId, id -> new TimeSortedIds(id, System::currentTimeMillis));
+    }
+
+    public synchronized long next() {
+        long timestamp = Math.max(clock.getAsLong() - EPOCH_MILLIS, lastTimestamp);
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                timestamp++;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTimestamp = timestamp;
+        return timestamp << (NODE_BITS + SEQUENCE_BITS) | (long) nodeId << SEQUENCE_BITS | sequence;
+    }
+
+    /**
+     * 시각/노드/순번으로 ID 직접 구성 (대량 데이터 생성처럼 발급기를 거치지 않고 결정적인 ID 가 필요할 때)
+     */
+    public static long compose(long epochMillis, int nodeId, int sequence) {
+        long timestamp = epochMillis - EPOCH_MILLIS;
+        if (timestamp < 0 || nodeId < 0 || nodeId > MAX_NODE_ID || sequence < 0 || sequence > SEQUENCE_MASK) {
+            throw new IllegalArgumentException("ID 범위를 벗어났습니다: " + epochMillis + "/" + nodeId + "/" + sequence);
+        }
+        return timestamp << (NODE_BITS + SEQUENCE_BITS) | (long) nodeId << SEQUENCE_BITS | sequence;
+    }
+
+    /**
+     * ID 에 담긴 발급 시각
+     */
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS);
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 @Slf4j
 @RestControllerAdvice
@@ -26,6 +27,17 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(ex.getErrorCode().getStatus(), ex.getMessage()));
     }
 
+    /**
+     * multipart 요청 크기 상한 초과 (파일 단위 / 요청 단위)
+     */
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<ApiResponse<String>> handleMaxUploadSizeExceededException(MaxUploadSizeExceededException ex) {
+        log.warn("❗ 업로드 용량 초과: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.PAYLOAD_TOO_LARGE)
+                .body(ApiResponse.error(HttpStatus.PAYLOAD_TOO_LARGE, ErrorCode.IMAGE_TOO_LARGE.getMessage()));
+    }
+
     /**
      * 유효성 검사 실패 예외 처리 (@Valid DTO 검증 실패)
      */
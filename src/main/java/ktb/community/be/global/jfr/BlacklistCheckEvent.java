@@ -0,0 +1,22 @@
+package ktb.community.be.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 로그아웃된 토큰 확인 (Bloom Filter → Redis)
+ */
+@Name("ktb.community.BlacklistCheck")
+@Label("Token Blacklist Check")
+@Category({"Community", "Security"})
+@Description("Bloom Filter 와 Redis 로 로그아웃된 토큰인지 확인")
+@StackTrace(false)
+public class BlacklistCheckEvent extends Event {
+
+    @Label("Blacklisted")
+    public boolean blacklisted;
+}
@@ -0,0 +1,25 @@
+package ktb.community.be.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 댓글 목록 → 계층 구조 변환 (CommentHierarchyBuilder)
+ */
+@Name("ktb.community.CommentHierarchy")
+@Label("Comment Hierarchy Build")
+@Category({"Community", "Comment"})
+@Description("게시글 댓글을 부모/자식 계층으로 조립")
+@StackTrace(false)
+public class CommentHierarchyEvent extends Event {
+
+    @Label("Post Id")
+    public long postId;
+
+    @Label("Comment Count")
+    public int commentCount;
+}
@@ -0,0 +1,32 @@
+package ktb.community.be.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 업로드 파일 저장 (검증, 해시 계산, 저장소 기록)
+ */
+@Name("ktb.community.FileStore")
+@Label("File Store")
+@Category({"Community", "Storage"})
+@Description("업로드 파일 한 개를 검증하고 저장소에 기록")
+public class FileStoreEvent extends Event {
+
+    @Label("Sub Directory")
+    public String subDir;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    @Label("Deduplicated")
+    @Description("같은 내용이 이미 있어 새로 기록하지 않음")
+    public boolean deduplicated;
+
+    @Label("Success")
+    public boolean success;
+}
@@ -0,0 +1,198 @@
+package ktb.community.be.global.jfr;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 운영 중 JFR 녹화 시작/덤프/중지 (재시작 없이 장애 구간 수집, ADMIN 만)
+ * - GET  /actuator/flightrecorder               상태 + 덤프 파일 목록
+ * - POST /actuator/flightrecorder/start         {"maxAge":"PT10M","maxSize":"100MB","duration":"PT30M"} (모두 선택)
+ * - POST /actuator/flightrecorder/dump          녹화는 계속, 지금까지 내용을 파일로
+ * - POST /actuator/flightrecorder/stop          덤프 후 종료
+ * - GET  /actuator/flightrecorder/{파일명}        덤프 다운로드 → JDK Mission Control 로 열기
+ * - 녹화 크기/보관 시간/길이는 jfr.max-* 상한으로 제한하고, 덤프 파일은 최근 jfr.max-dumps 개만 보관
+ * - 설정은 jfr.settings (default: 오버헤드 1% 내외, profile: 더 자세함) + ktb.community.* 사용자 이벤트
+ */
+@Slf4j
+@Component
+@Endpoint(id = "flightrecorder")
+public class FlightRecorderEndpoint {
+
+    private static final Pattern DUMP_FILE_NAME = Pattern.compile("community-[0-9T_-]+\\.jfr");
+    private static final DateTimeFormatter DUMP_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss_SSS");
+
+    private final Path dumpDirectory;
+    private final String settings;
+    private final Duration maxAge;
+    private final DataSize maxSize;
+    private final Duration maxDuration;
+    private final int maxDumps;
+
+    private Recording recording;
+
+    public FlightRecorderEndpoint(@Value("${jfr.dump-dir:${java.io.tmpdir}/community-jfr}") Path dumpDirectory,
+                                  @Value("${jfr.settings:default}") String settings,
+                                  @Value("${jfr.max-age:PT30M}") Duration maxAge,
+                                  @Value("${jfr.max-size:200MB}") DataSize maxSize,
+                                  @Value("${jfr.max-duration:PT1H}") Duration maxDuration,
+                                  @Value("${jfr.max-dumps:5}") int maxDumps) {
+        this.dumpDirectory = dumpDirectory;
+        this.settings = settings;
+        this.maxAge = maxAge;
+        this.maxSize = maxSize;
+        this.maxDuration = maxDuration;
+        this.maxDumps = maxDumps;
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        boolean running = recording != null && recording.getState() == RecordingState.RUNNING;
+        status.put("running", running);
+        if (running) {
+            status.put("startTime", recording.getStartTime());
+            status.put("maxAge", recording.getMaxAge());
+            status.put("maxSize", recording.getMaxSize());
+            status.put("duration", recording.getDuration());
+            status.put("size", recording.getSize());
+        }
+        status.put("dumps", dumpFiles().stream().map(file -> file.getFileName().toString()).toList());
+        return status;
+    }
+
+    @ReadOperation
+    public Resource download(@Selector String fileName) {
+        if (!DUMP_FILE_NAME.matcher(fileName).matches()) {
+            throw new InvalidEndpointRequestException("잘못된 덤프 파일명입니다: " + fileName, "Invalid dump file name");
+        }
+        Path file = dumpDirectory.resolve(fileName);
+        return Files.isRegularFile(file) ? new FileSystemResource(file) : null; // null → 404
+    }
+
+    @WriteOperation
+    public synchronized Map<String, Object> control(@Selector String action,
+                                                    @Nullable Duration maxAge,
+                                                    @Nullable DataSize maxSize,
+                                                    @Nullable Duration duration) {
+        switch (action) {
+            case "start" -> start(maxAge, maxSize, duration);
+            case "dump" -> dump(requireRecording());
+            case "stop" -> {
+                Recording current = requireRecording();
+                dump(current);
+                current.close();
+                recording = null;
+                log.info("[JFR] 녹화 종료");
+            }
+            default -> throw new InvalidEndpointRequestException(
+                    "action 은 start, dump, stop 중 하나여야 합니다: " + action, "Unknown action");
+        }
+        return status();
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private void start(Duration requestedMaxAge, DataSize requestedMaxSize, Duration requestedDuration) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new InvalidEndpointRequestException("이미 녹화 중입니다.", "Recording already running");
+        }
+        close();
+        try {
+            Recording started = new Recording(Configuration.getConfiguration(settings));
+            started.setName("community-on-demand");
+            started.setToDisk(true);
+            started.setMaxAge(atMost(requestedMaxAge, maxAge));
+            started.setMaxSize(Math.min(requestedMaxSize != null ? requestedMaxSize.toBytes() : Long.MAX_VALUE,
+                    maxSize.toBytes()));
+            started.setDuration(atMost(requestedDuration, maxDuration));
+            started.start();
+            recording = started;
+            log.info("[JFR] 녹화 시작 settings={}, maxAge={}, maxSize={}, duration={}",
+                    settings, started.getMaxAge(), started.getMaxSize(), started.getDuration());
+        } catch (IOException | ParseException e) {
+            throw new InvalidEndpointRequestException("JFR 설정을 읽을 수 없습니다: " + settings, "Invalid settings");
+        }
+    }
+
+    private Recording requireRecording() {
+        if (recording == null) {
+            throw new InvalidEndpointRequestException("진행 중인 녹화가 없습니다.", "No recording");
+        }
+        return recording;
+    }
+
+    private void dump(Recording current) {
+        try {
+            Files.createDirectories(dumpDirectory);
+            Path file = dumpDirectory.resolve("community-" + LocalDateTime.now().format(DUMP_TIME) + ".jfr");
+            current.dump(file);
+            log.info("[JFR] 덤프 저장: {}", file);
+            pruneDumps();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 최근 maxDumps 개만 남김 (디스크 사용량 제한)
+     */
+    private void pruneDumps() throws IOException {
+        List<Path> dumps = dumpFiles();
+        for (int i = 0; i < dumps.size() - maxDumps; i++) {
+            Files.deleteIfExists(dumps.get(i));
+        }
+    }
+
+    /**
+     * 덤프 파일 (오래된 순, 파일명에 시각이 들어 있음)
+     */
+    private List<Path> dumpFiles() {
+        if (!Files.isDirectory(dumpDirectory)) return List.of();
+        try (Stream<Path> files = Files.list(dumpDirectory)) {
+            return files.filter(file -> DUMP_FILE_NAME.matcher(file.getFileName().toString()).matches())
+                    .sorted(Comparator.comparing(file -> file.getFileName().toString()))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Duration atMost(Duration requested, Duration limit) {
+        return requested == null || requested.compareTo(limit) > 0 ? limit : requested;
+    }
+}
@@ -0,0 +1,22 @@
+package ktb.community.be.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Access Token 서명/만료 검증 + Authentication 생성 (JwtFilter)
+ */
+@Name("ktb.community.JwtVerification")
+@Label("JWT Verification")
+@Category({"Community", "Security"})
+@Description("Access Token 검증과 인증 정보 생성")
+@StackTrace(false)
+public class JwtVerificationEvent extends Event {
+
+    @Label("Valid")
+    public boolean valid;
+}
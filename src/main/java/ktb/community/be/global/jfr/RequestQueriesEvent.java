@@ -0,0 +1,32 @@
+package ktb.community.be.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * HTTP 요청 하나의 SQL 실행 수 (QueryCountFilter)
+ */
+@Name("ktb.community.RequestQueries")
+@Label("Request Queries")
+@Category({"Community", "Database"})
+@Description("요청 처리 중 Hibernate 가 실행한 SQL 수와 N+1 의심 형태 수")
+@StackTrace(false)
+public class RequestQueriesEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("URI Pattern")
+    public String uri;
+
+    @Label("Query Count")
+    public int queryCount;
+
+    @Label("Repeated Shapes")
+    @Description("n-plus-one-threshold 번 이상 반복된 SQL 형태 수")
+    public int repeatedShapes;
+}
@@ -0,0 +1,51 @@
+package ktb.community.be.global.job;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 작업 진행 위치 저장 (중단 후 재시작 시 이어서 처리)
+ */
+@Entity
+@Table(name = "job_checkpoint")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobCheckpoint {
+
+    @Id
+    @Column(length = 64)
+    private String jobName;
+
+    // 마지막으로 처리 완료한 위치 (id, 파일 경로 등 작업별 형식)
+    @Column(length = 512)
+    private String position;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public JobCheckpoint(String jobName) {
+        this.jobName = jobName;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public long getPositionAsLong() {
+        return position == null ? 0L : Long.parseLong(position);
+    }
+
+    public void updatePosition(String position) {
+        this.position = position;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void updatePosition(long position) {
+        updatePosition(String.valueOf(position));
+    }
+
+    public void reset() {
+        updatePosition(null);
+    }
+}
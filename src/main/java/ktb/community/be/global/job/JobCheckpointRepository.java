@@ -0,0 +1,15 @@
+package ktb.community.be.global.job;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+
+    /**
+     * 체크포인트 조회 (없으면 새로 생성)
+     */
+    default JobCheckpoint findOrCreate(String jobName) {
+        return findById(jobName).orElseGet(() -> save(new JobCheckpoint(jobName)));
+    }
+}
@@ -0,0 +1,41 @@
+package ktb.community.be.global.job;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 클러스터 단일 실행 작업의 리스(lease) 정보
+ * - owner: 현재 리스를 가진 노드 ID
+ * - leaseUntil: 만료 시각 (이후에는 다른 노드가 가져갈 수 있음)
+ * - fencingToken: 리스를 새로 획득할 때마다 증가 → 이전 리더의 늦은 쓰기 차단
+ * - acquiredAt: 마지막 획득 시각 (해제 시 최소 보유 시간 계산 기준)
+ */
+@Entity
+@Table(name = "job_lease")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobLease {
+
+    @Id
+    @Column(length = 64)
+    private String jobName;
+
+    @Column(length = 128)
+    private String owner;
+
+    @Column(columnDefinition = "DATETIME(6) NOT NULL")
+    private LocalDateTime leaseUntil;
+
+    @Column(nullable = false)
+    private Long fencingToken;
+
+    @Column(columnDefinition = "DATETIME(6) NULL")
+    private LocalDateTime heartbeatAt;
+
+    @Column(columnDefinition = "DATETIME(6) NULL")
+    private LocalDateTime acquiredAt;
+}
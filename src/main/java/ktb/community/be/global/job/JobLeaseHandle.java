@@ -0,0 +1,23 @@
+package ktb.community.be.global.job;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 획득한 리스 정보 (작업 실행 중 전달되어 fencing 검사에 사용)
+ */
+@Getter
+@RequiredArgsConstructor
+public class JobLeaseHandle {
+
+    private final String jobName;
+    private final String owner;
+    private final long fencingToken;
+
+    // 하트비트 갱신 실패 시 true
+    private volatile boolean lost;
+
+    void markLost() {
+        this.lost = true;
+    }
+}
@@ -0,0 +1,195 @@
+package ktb.community.be.global.job;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * DB 리스 기반 클러스터 단일 실행 관리
+ * - 여러 노드에서 동시에 @Scheduled 가 실행되어도 리스를 획득한 한 노드만 작업 수행
+ * - 실행 중에는 TTL/3 주기로 하트비트 갱신, 리더가 죽으면 TTL 이후 다른 노드가 획득
+ * - 작업이 끝나도 minHold 동안은 리스 유지 → 노드마다 조금씩 어긋나게 도는 cron/fixed-delay 가 같은 작업을 반복하지 않음
+ */
+@Slf4j
+@Component
+public class JobLeaseManager {
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final TransactionTemplate requiresNew;
+    private final ScheduledExecutorService heartbeatExecutor;
+    private final Set<String> createdLeases = ConcurrentHashMap.newKeySet();
+
+    @Getter
+    private final String nodeId;
+
+    public JobLeaseManager(JobLeaseRepository jobLeaseRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${job.lease.node-id:}") String nodeId) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : defaultNodeId();
+        this.heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-lease-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 리스를 획득한 경우에만 작업 실행 (획득 실패 시 false), 종료 즉시 리스 만료
+     */
+    public boolean runExclusively(String jobName, Duration ttl, Consumer<JobLeaseHandle> job) {
+        return runExclusively(jobName, ttl, Duration.ZERO, job);
+    }
+
+    /**
+     * 리스를 획득한 경우에만 작업 실행 (획득 실패 시 false)
+     * - minHold: 획득 시점부터 최소 보유 시간 (cron 은 노드 간 시각 차이, fixed-delay 는 실행 주기만큼)
+     */
+    public boolean runExclusively(String jobName, Duration ttl, Duration minHold, Consumer<JobLeaseHandle> job) {
+        Optional<JobLeaseHandle> acquired = tryAcquire(jobName, ttl);
+        if (acquired.isEmpty()) {
+            log.debug("[리스 획득 실패] job={}, node={} → 다른 노드에서 실행 중", jobName, nodeId);
+            return false;
+        }
+
+        JobLeaseHandle handle = acquired.get();
+        long periodMillis = Math.max(ttl.toMillis() / 3, 1);
+        ScheduledFuture<?> heartbeat = heartbeatExecutor.scheduleAtFixedRate(
+                () -> heartbeat(handle, ttl), periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+
+        log.info("[리스 획득] job={}, node={}, token={}", jobName, nodeId, handle.getFencingToken());
+        try {
+            job.accept(handle);
+            return true;
+        } finally {
+            heartbeat.cancel(false);
+            release(handle, minHold);
+        }
+    }
+
+    /**
+     * 만료된 리스 획득 시도 (획득 트랜잭션은 조건부 UPDATE 한 건 → 동시에 획득해도 행 잠금 대기 후 한 노드만 성공)
+     * - 잠금 대기 초과/교착으로 실패하면 다른 노드가 획득 중인 것으로 보고 empty
+     */
+    public Optional<JobLeaseHandle> tryAcquire(String jobName, Duration ttl) {
+        createIfAbsent(jobName);
+        try {
+            return requiresNew.execute(status -> {
+                if (jobLeaseRepository.tryAcquire(jobName, nodeId, toMicros(ttl)) == 0) {
+                    return Optional.<JobLeaseHandle>empty();
+                }
+                return jobLeaseRepository.findFencingToken(jobName, nodeId)
+                        .map(token -> new JobLeaseHandle(jobName, nodeId, token));
+            });
+        } catch (PessimisticLockingFailureException e) {
+            log.debug("[리스 획득 경합] job={}, node={}, error={}", jobName, nodeId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 리스 행 생성은 별도 트랜잭션으로 (노드당 작업별 한 번)
+     * - 동시에 생성하다 잠금 충돌이 나도 무시 → 행은 다른 노드가 만들었고, 이어지는 획득 시도에서 경합 처리
+     */
+    private void createIfAbsent(String jobName) {
+        if (createdLeases.contains(jobName)) return;
+        try {
+            requiresNew.executeWithoutResult(status -> jobLeaseRepository.insertIfAbsent(jobName));
+            createdLeases.add(jobName);
+        } catch (PessimisticLockingFailureException e) {
+            log.debug("[리스 행 생성 경합] job={}, node={}, error={}", jobName, nodeId, e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 트랜잭션 안에서 리스 보유 여부 검증 (fencing)
+     * - 청크 트랜잭션 시작 시 호출 → 리스를 잃었으면 LeaseLostException 으로 롤백
+     */
+    public void verifyHeld(JobLeaseHandle handle) {
+        if (handle.isLost() || jobLeaseRepository.countHeldForShare(
+                handle.getJobName(), handle.getOwner(), handle.getFencingToken()) == 0) {
+            handle.markLost();
+            throw new LeaseLostException(handle.getJobName(), handle.getFencingToken());
+        }
+    }
+
+    /**
+     * 보유 중인 리스 연장 (fencing token 유지), 이미 잃었으면 lost 표시 후 false
+     */
+    public boolean renew(JobLeaseHandle handle, Duration ttl) {
+        Integer renewed = requiresNew.execute(status -> jobLeaseRepository.renew(
+                handle.getJobName(), handle.getOwner(), handle.getFencingToken(), toMicros(ttl)));
+        if (renewed == null || renewed == 0) {
+            handle.markLost();
+            log.warn("[리스 갱신 실패] job={}, node={}, token={}", handle.getJobName(), nodeId, handle.getFencingToken());
+            return false;
+        }
+        return true;
+    }
+
+    private void heartbeat(JobLeaseHandle handle, Duration ttl) {
+        try {
+            renew(handle, ttl);
+        } catch (Exception e) {
+            log.warn("[리스 갱신 중 오류] job={}, error={}", handle.getJobName(), e.getMessage());
+        }
+    }
+
+    public void release(JobLeaseHandle handle) {
+        release(handle, Duration.ZERO);
+    }
+
+    /**
+     * 리스 해제 (획득 시점 + minHold 이전이면 그때까지 유지)
+     */
+    public void release(JobLeaseHandle handle, Duration minHold) {
+        try {
+            requiresNew.executeWithoutResult(status -> jobLeaseRepository.release(
+                    handle.getJobName(), handle.getOwner(), handle.getFencingToken(), toMicros(minHold)));
+        } catch (Exception e) {
+            // 해제에 실패해도 TTL 이후 자동 만료
+            log.warn("[리스 해제 실패] job={}, error={}", handle.getJobName(), e.getMessage());
+        }
+    }
+
+    private static long toMicros(Duration ttl) {
+        return TimeUnit.NANOSECONDS.toMicros(ttl.toNanos());
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatExecutor.shutdownNow();
+    }
+}
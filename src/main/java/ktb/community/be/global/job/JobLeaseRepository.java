@@ -0,0 +1,70 @@
+package ktb.community.be.global.job;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 리스 획득/갱신은 모두 DB 시각(NOW(6)) 기준 조건부 UPDATE 로 처리 (노드 간 시계 차이 영향 없음)
+ */
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    /**
+     * 리스 행이 없으면 만료된 상태로 생성
+     * - 행이 이미 있으면 INSERT IGNORE 도 중복 키에 공유 잠금을 잡으므로 획득 UPDATE 와 같은 트랜잭션에서 실행하지 않음
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO job_lease (job_name, owner, lease_until, fencing_token, heartbeat_at) " +
+            "VALUES (:jobName, NULL, TIMESTAMPADD(SECOND, -1, NOW(6)), 0, NULL)", nativeQuery = true)
+    int insertIfAbsent(@Param("jobName") String jobName);
+
+    /**
+     * 만료된 리스만 획득 (획득 시 fencing token 증가)
+     * - 보유 중인 리스를 다시 획득하지 않음 → 같은 노드라도 진행 중인 작업의 토큰이 바뀌어 verifyHeld 가 깨지지 않음
+     * - 연장은 renew (토큰 유지)
+     */
+    @Modifying
+    @Query(value = "UPDATE job_lease SET owner = :owner, " +
+            "lease_until = TIMESTAMPADD(MICROSECOND, :ttlMicros, NOW(6)), " +
+            "fencing_token = fencing_token + 1, heartbeat_at = NOW(6), acquired_at = NOW(6) " +
+            "WHERE job_name = :jobName AND lease_until < NOW(6)", nativeQuery = true)
+    int tryAcquire(@Param("jobName") String jobName, @Param("owner") String owner, @Param("ttlMicros") long ttlMicros);
+
+    /**
+     * 하트비트: 같은 owner + fencing token 일 때만 만료 시각 연장
+     */
+    @Modifying
+    @Query(value = "UPDATE job_lease SET lease_until = TIMESTAMPADD(MICROSECOND, :ttlMicros, NOW(6)), heartbeat_at = NOW(6) " +
+            "WHERE job_name = :jobName AND owner = :owner AND fencing_token = :token AND lease_until >= NOW(6)",
+            nativeQuery = true)
+    int renew(@Param("jobName") String jobName, @Param("owner") String owner,
+              @Param("token") long token, @Param("ttlMicros") long ttlMicros);
+
+    /**
+     * 작업 종료 시 만료 처리, 단 획득 시각 + minHold 까지는 유지
+     * - 먼저 끝난 노드가 리스를 풀어도 cron 이 조금 늦게 돈 노드나 다음 fixed-delay 주기의 다른 노드가 같은 작업을 다시 실행하지 않음
+     * - minHold = 0 이면 즉시 만료 (다음 노드가 바로 획득 가능)
+     */
+    @Modifying
+    @Query(value = "UPDATE job_lease SET lease_until = " +
+            "GREATEST(NOW(6), TIMESTAMPADD(MICROSECOND, :minHoldMicros, COALESCE(acquired_at, NOW(6)))) " +
+            "WHERE job_name = :jobName AND owner = :owner AND fencing_token = :token", nativeQuery = true)
+    int release(@Param("jobName") String jobName, @Param("owner") String owner, @Param("token") long token,
+                @Param("minHoldMicros") long minHoldMicros);
+
+    @Query(value = "SELECT fencing_token FROM job_lease WHERE job_name = :jobName AND owner = :owner", nativeQuery = true)
+    Optional<Long> findFencingToken(@Param("jobName") String jobName, @Param("owner") String owner);
+
+    /**
+     * 현재 트랜잭션에서 리스 보유 여부 확인 (공유 잠금 → 커밋 전까지 다른 노드의 탈취 UPDATE 대기)
+     */
+    @Query(value = "SELECT COUNT(*) FROM job_lease " +
+            "WHERE job_name = :jobName AND owner = :owner AND fencing_token = :token AND lease_until >= NOW(6) " +
+            "FOR SHARE", nativeQuery = true)
+    long countHeldForShare(@Param("jobName") String jobName, @Param("owner") String owner, @Param("token") long token);
+}
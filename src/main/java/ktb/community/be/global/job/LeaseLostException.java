@@ -0,0 +1,11 @@
+package ktb.community.be.global.job;
+
+/**
+ * 작업 도중 리스를 잃은 경우 (다른 노드가 가져감) → 현재 청크 롤백 후 작업 중단
+ */
+public class LeaseLostException extends RuntimeException {
+
+    public LeaseLostException(String jobName, long fencingToken) {
+        super("리스를 잃었습니다. job=" + jobName + ", token=" + fencingToken);
+    }
+}
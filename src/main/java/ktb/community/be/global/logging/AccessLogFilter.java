@@ -0,0 +1,78 @@
+package ktb.community.be.global.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 구조화(JSON) 접근 로그 (logger: http.access → logback-spring.xml 의 비동기 JSON appender)
+ * - 정상 응답은 access-log.sample-rate 비율만 기록, 5xx 와 access-log.slow-threshold 이상 걸린 요청은 항상 기록
+ * - 운영 중 끄고 켜기: POST /actuator/loggers/http.access {"configuredLevel":"OFF"|"INFO"}
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private static final Logger accessLog = LoggerFactory.getLogger("http.access");
+
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+
+    public AccessLogFilter(@Value("${access-log.sample-rate:1.0}") double sampleRate,
+                           @Value("${access-log.slow-threshold:PT1S}") Duration slowThreshold) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !accessLog.isInfoEnabled() || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long startedAt = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsed = System.nanoTime() - startedAt;
+            int status = response.getStatus();
+            if (status >= 500 || elapsed >= slowThresholdNanos || sampled()) {
+                accessLog.atInfo()
+                        .addKeyValue("method", request.getMethod())
+                        .addKeyValue("uri", endpointOf(request))
+                        .addKeyValue("path", request.getRequestURI())
+                        .addKeyValue("status", status)
+                        .addKeyValue("duration_ms", elapsed / 1_000_000.0)
+                        .addKeyValue("client_ip", request.getRemoteAddr())
+                        .log("{} {} {}", request.getMethod(), request.getRequestURI(), status);
+            }
+        }
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    /**
+     * 매칭된 URI 패턴 (집계용), 매칭 전 실패한 요청은 UNKNOWN
+     */
+    private String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,50 @@
+package ktb.community.be.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+import lombok.Setter;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그 표본 추출 (logback-spring.xml 에서 appender 에 붙여 사용)
+ * - rate: 통과 비율 (0.0 ~ 1.0)
+ * - maxPerSecond: 초당 최대 통과 수 (0 = 제한 없음) → 장애 중 느린 쿼리가 폭증해도 로그가 CPU/디스크를 잡아먹지 않음
+ * - WARN 이상은 항상 통과
+ */
+@Setter
+public class SamplingFilter extends Filter<ILoggingEvent> {
+
+    private double rate = 1.0;
+    private int maxPerSecond;
+
+    private final AtomicLong window = new AtomicLong();
+
+    @Override
+    public FilterReply decide(ILoggingEvent event) {
+        if (event.getLevel().isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        if (rate < 1.0 && ThreadLocalRandom.current().nextDouble() >= rate) {
+            return FilterReply.DENY;
+        }
+        return withinLimit() ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    /**
+     * 상위 비트 = 현재 초(하위 23비트만), 하위 40비트 = 그 초에 통과한 수 (CAS 하나로 초 경계 리셋까지 처리)
+     */
+    private boolean withinLimit() {
+        if (maxPerSecond <= 0) return true;
+        long second = System.currentTimeMillis() / 1000 & 0x7F_FFFFL;
+        while (true) {
+            long current = window.get();
+            long count = current >>> 40 == second ? current & 0xFF_FFFF_FFFFL : 0;
+            if (count >= maxPerSecond) return false;
+            if (window.compareAndSet(current, second << 40 | (count + 1))) return true;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package ktb.community.be.global.metrics;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * 메서드 지연 시간 측정 (클래스에 붙이면 모든 public 메서드)
+ * - 지표: method.latency{class, method, outcome} → p50/p95/p99 (/actuator/prometheus)
+ * - 같은 빈 안에서의 자기 호출은 프록시를 거치지 않으므로 측정되지 않음
+ */
+@Retention(RUNTIME)
+@Target({TYPE, METHOD})
+public @interface LatencyTimed {
+}
@@ -0,0 +1,59 @@
+package ktb.community.be.global.query;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 한 구간(HTTP 요청, 테스트 블록)에서 실행된 SQL 수와 형태별 실행 횟수
+ * - 형태: 공백/리터럴/IN 목록 길이를 정규화한 SQL → 같은 형태가 반복되면 N+1 의심
+ * - 중첩 구간이면 바깥 구간에도 함께 집계
+ */
+public class QueryCount {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+
+    private final QueryCount parent;
+    private final Map<String, Integer> countsByShape = new LinkedHashMap<>();
+    private int total;
+
+    QueryCount(QueryCount parent) {
+        this.parent = parent;
+    }
+
+    void record(String sql) {
+        total++;
+        countsByShape.merge(shapeOf(sql), 1, Integer::sum);
+        if (parent != null) {
+            parent.record(sql);
+        }
+    }
+
+    QueryCount parent() {
+        return parent;
+    }
+
+    public int total() {
+        return total;
+    }
+
+    /**
+     * threshold 번 이상 반복된 SQL 형태 (N+1 의심)
+     */
+    public Map<String, Integer> repeatedShapes(int threshold) {
+        return countsByShape.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+        return IN_LIST.matcher(shape).replaceAll("in (?)");
+    }
+}
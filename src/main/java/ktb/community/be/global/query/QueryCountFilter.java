@@ -0,0 +1,122 @@
+package ktb.community.be.global.query;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import ktb.community.be.global.jfr.RequestQueriesEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * HTTP 요청별 SQL 수 집계
+ * - 엔드포인트(메서드 + URI 패턴)별 SQL 수 분포: http.server.requests.queries
+ * - 같은 형태의 SQL 이 n-plus-one-threshold 번 이상 반복되면 N+1 의심으로 경고 로그 + http.server.requests.n-plus-one
+ * - query-count.header-enabled=true 면 응답 헤더 X-Query-Count / X-Query-N-Plus-One 추가
+ *   (개발용, 응답 본문을 버퍼링하므로 /api/, /auth/ 요청에만 적용 → 업로드 파일/정적 리소스는 그대로 스트리밍)
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String N_PLUS_ONE_HEADER = "X-Query-N-Plus-One";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean headerEnabled;
+    private final int nPlusOneThreshold;
+
+    public QueryCountFilter(MeterRegistry meterRegistry,
+                            @Value("${query-count.header-enabled:false}") boolean headerEnabled,
+                            @Value("${query-count.n-plus-one-threshold:5}") int nPlusOneThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.headerEnabled = headerEnabled;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper cachingResponse = headerEnabled && isApiRequest(request)
+                ? new ContentCachingResponseWrapper(response) : null;
+        RequestQueriesEvent event = new RequestQueriesEvent();
+        event.begin();
+        QueryCount count = QueryCounter.start();
+        try {
+            filterChain.doFilter(request, cachingResponse != null ? cachingResponse : response);
+        } finally {
+            QueryCounter.stop(count);
+            Map<String, Integer> suspects = count.repeatedShapes(nPlusOneThreshold);
+            record(request, count, suspects);
+            commit(event, request, count, suspects);
+            if (cachingResponse != null) {
+                cachingResponse.setHeader(QUERY_COUNT_HEADER, String.valueOf(count.total()));
+                if (!suspects.isEmpty()) {
+                    cachingResponse.setHeader(N_PLUS_ONE_HEADER, String.valueOf(suspects.size()));
+                }
+                cachingResponse.copyBodyToResponse();
+            }
+        }
+    }
+
+    private boolean isApiRequest(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return uri.startsWith("/api/") || uri.startsWith("/auth/");
+    }
+
+    private void record(HttpServletRequest request, QueryCount count, Map<String, Integer> suspects) {
+        String method = request.getMethod();
+        String uri = endpointOf(request);
+
+        DistributionSummary.builder("http.server.requests.queries")
+                .description("요청당 SQL 실행 수")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(count.total());
+
+        if (suspects.isEmpty()) return;
+        Counter.builder("http.server.requests.n-plus-one")
+                .description("같은 형태의 SQL 이 반복된 요청 수 (N+1 의심)")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .increment();
+        suspects.forEach((shape, times) ->
+                log.warn("[N+1 의심] {} {} → {}회: {}", method, uri, times, shape));
+    }
+
+    /**
+     * JFR 이벤트 (녹화 중이 아니면 shouldCommit 이 false → 필드 채우기 생략)
+     */
+    private void commit(RequestQueriesEvent event, HttpServletRequest request, QueryCount count,
+                        Map<String, Integer> suspects) {
+        if (!event.shouldCommit()) return;
+        event.method = request.getMethod();
+        event.uri = endpointOf(request);
+        event.queryCount = count.total();
+        event.repeatedShapes = suspects.size();
+        event.commit();
+    }
+
+    /**
+     * 매칭된 URI 패턴 (예: /api/posts/{postId}), 매칭 전 실패한 요청은 UNKNOWN (태그 수 폭증 방지)
+     */
+    private String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
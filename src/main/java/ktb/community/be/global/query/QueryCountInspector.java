@@ -0,0 +1,15 @@
+package ktb.community.be.global.query;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 SQL 을 준비할 때마다 현재 집계 구간에 기록 (SQL 은 그대로 반환)
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.record(sql);
+        return sql;
+    }
+}
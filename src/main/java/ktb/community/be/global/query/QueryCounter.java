@@ -0,0 +1,47 @@
+package ktb.community.be.global.query;
+
+/**
+ * 현재 스레드의 SQL 집계 구간 관리 (Hibernate StatementInspector 가 기록)
+ * - Hibernate 가 실행하는 SQL 만 집계 (JdbcTemplate 직접 호출, 다른 스레드의 비동기 작업은 제외)
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<QueryCount> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static QueryCount start() {
+        QueryCount count = new QueryCount(CURRENT.get());
+        CURRENT.set(count);
+        return count;
+    }
+
+    public static void stop(QueryCount count) {
+        if (count.parent() == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(count.parent());
+        }
+    }
+
+    /**
+     * action 실행 중의 SQL 집계
+     */
+    public static QueryCount count(Runnable action) {
+        QueryCount count = start();
+        try {
+            action.run();
+        } finally {
+            stop(count);
+        }
+        return count;
+    }
+
+    static void record(String sql) {
+        QueryCount count = CURRENT.get();
+        if (count != null) {
+            count.record(sql);
+        }
+    }
+}
@@ -1,24 +1,55 @@
 package ktb.community.be.global.scheduler;
 
-import ktb.community.be.domain.member.application.MemberService;
+import ktb.community.be.domain.member.application.MemberAnonymizationJob;
+import ktb.community.be.global.job.JobLeaseManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class MemberCleanupScheduler {
 
-    private final MemberService memberService;
+    private final MemberAnonymizationJob memberAnonymizationJob;
+    private final JobLeaseManager jobLeaseManager;
+
+    @Value("${job.lease.ttl:PT1M}")
+    private Duration leaseTtl;
+
+    @Value("${job.lease.cron-min-hold:PT10M}")
+    private Duration minHold;
 
     @Scheduled(cron = "0 0 3 * * ?") // 매일 새벽 3시 실행
     public void cleanupDeletedMembers() {
         log.info("* 30일 지난 탈퇴 회원 이메일/닉네임 변경 작업 시작");
+        runExclusively();
+    }
+
+    /**
+     * 리더 노드가 작업 도중 종료된 경우 → 리스 만료 후 다른 노드가 체크포인트부터 이어서 처리
+     */
+    @Scheduled(fixedDelayString = "${member.anonymization.takeover-check-interval:PT5M}")
+    public void resumeInterruptedCleanup() {
+        if (memberAnonymizationJob.isInterrupted()) {
+            log.info("* 중단된 탈퇴 회원 처리 작업 이어서 실행 시도");
+            runExclusively();
+        }
+    }
+
+    private void runExclusively() {
         try {
-            memberService.processExpiredDeletedAccounts();
-            log.info("* 30일 지난 탈퇴 회원 처리 완료");
+            boolean executed = jobLeaseManager.runExclusively(MemberAnonymizationJob.JOB_NAME, leaseTtl, minHold, lease -> {
+                MemberAnonymizationJob.Result result = memberAnonymizationJob.run(lease);
+                log.info("* 30일 지난 탈퇴 회원 처리 완료 ({}건)", result.processed());
+            });
+            if (!executed) {
+                log.info("* 다른 노드에서 탈퇴 회원 처리 작업 실행 중 → 건너뜀");
+            }
         } catch (Exception e) {
             log.error("* 30일 지난 탈퇴 회원 처리 중 예외 발생: {}", e.getMessage(), e);
         }
@@ -0,0 +1,48 @@
+package ktb.community.be.global.scheduler;
+
+import ktb.community.be.domain.post.application.PostCascadeDeleteService;
+import ktb.community.be.global.job.JobLeaseManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCascadeDeleteScheduler {
+
+    private static final String JOB_NAME = "post-cascade-delete";
+
+    private final PostCascadeDeleteService postCascadeDeleteService;
+    private final JobLeaseManager jobLeaseManager;
+
+    @Value("${job.lease.ttl:PT1M}")
+    private Duration leaseTtl;
+
+    @Value("${post.delete.sweep-interval:PT5M}")
+    private Duration interval;
+
+    @Value("${post.delete.sweep-batch-size:20}")
+    private int batchSize;
+
+    /**
+     * 삭제된 게시글 중 댓글/좋아요 정리가 끝나지 않은 게시글 이어서 처리 (비동기 작업 중 서버 종료 등)
+     */
+    @Scheduled(fixedDelayString = "${post.delete.sweep-interval:PT5M}")
+    public void drainPendingCascades() {
+        try {
+            jobLeaseManager.runExclusively(JOB_NAME, leaseTtl, interval, lease -> {
+                int drained = postCascadeDeleteService.drainPending(batchSize);
+                if (drained > 0) {
+                    log.info("* 게시글 삭제 정리 재개 완료 ({}개 게시글)", drained);
+                }
+            });
+        } catch (Exception e) {
+            log.error("* 게시글 삭제 정리 중 예외 발생: {}", e.getMessage(), e);
+        }
+    }
+}
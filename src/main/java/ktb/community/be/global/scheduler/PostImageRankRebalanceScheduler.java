@@ -0,0 +1,57 @@
+package ktb.community.be.global.scheduler;
+
+import ktb.community.be.domain.image.application.PostImageService;
+import ktb.community.be.global.job.JobLeaseManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostImageRankRebalanceScheduler {
+
+    private static final String JOB_NAME = "post-image-rank-rebalance";
+
+    private final PostImageService postImageService;
+    private final JobLeaseManager jobLeaseManager;
+
+    @Value("${job.lease.ttl:PT1M}")
+    private Duration leaseTtl;
+
+    @Value("${post-image.rank.rebalance-interval:PT30M}")
+    private Duration interval;
+
+    @Value("${post-image.rank.rebalance-chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${post-image.rank.max-key-length:12}")
+    private int maxKeyLength;
+
+    /**
+     * 정렬 키가 없거나(기존 데이터) 같은 자리에 반복해서 끼워 넣어 길어진 게시글의 키 재배정
+     */
+    @Scheduled(fixedDelayString = "${post-image.rank.rebalance-interval:PT30M}")
+    public void rebalanceRankKeys() {
+        try {
+            jobLeaseManager.runExclusively(JOB_NAME, leaseTtl, interval, lease -> {
+                int rebalanced = 0;
+                int chunk;
+                do {
+                    chunk = postImageService.rebalanceRankKeys(lease, chunkSize, maxKeyLength);
+                    rebalanced += chunk;
+                } while (chunk == chunkSize);
+
+                if (rebalanced > 0) {
+                    log.info("* 게시글 이미지 정렬 키 재배정 완료 ({}개 게시글)", rebalanced);
+                }
+            });
+        } catch (Exception e) {
+            log.error("* 게시글 이미지 정렬 키 재배정 중 예외 발생: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package ktb.community.be.global.scheduler;
+
+import ktb.community.be.global.archive.SoftDeleteArchiver;
+import ktb.community.be.global.job.JobLeaseManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SoftDeleteArchiveScheduler {
+
+    private final SoftDeleteArchiver softDeleteArchiver;
+    private final JobLeaseManager jobLeaseManager;
+
+    @Value("${job.lease.ttl:PT1M}")
+    private Duration leaseTtl;
+
+    @Value("${job.lease.cron-min-hold:PT10M}")
+    private Duration minHold;
+
+    /**
+     * 보관 기간이 지난 Soft Delete 행을 보관 테이블로 이동 (archive.enabled=true 일 때)
+     */
+    @Scheduled(cron = "${archive.cron:0 30 4 * * ?}")
+    public void archiveSoftDeletedRows() {
+        if (!softDeleteArchiver.isEnabled()) return;
+        try {
+            boolean executed = jobLeaseManager.runExclusively(SoftDeleteArchiver.JOB_NAME, leaseTtl, minHold,
+                    softDeleteArchiver::run);
+            if (!executed) {
+                log.info("* 다른 노드에서 보관 작업 실행 중 → 건너뜀");
+            }
+        } catch (Exception e) {
+            log.error("* 보관 작업 중 예외 발생: {}", e.getMessage(), e);
+        }
+    }
+}
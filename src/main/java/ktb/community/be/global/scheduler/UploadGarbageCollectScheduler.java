@@ -0,0 +1,42 @@
+package ktb.community.be.global.scheduler;
+
+import ktb.community.be.global.job.JobLeaseManager;
+import ktb.community.be.global.storage.UploadGarbageCollector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UploadGarbageCollectScheduler {
+
+    private final UploadGarbageCollector uploadGarbageCollector;
+    private final JobLeaseManager jobLeaseManager;
+
+    @Value("${job.lease.ttl:PT1M}")
+    private Duration leaseTtl;
+
+    @Value("${upload.gc.interval:PT1H}")
+    private Duration interval;
+
+    /**
+     * 참조되지 않는 업로드 파일 정리 (실행마다 체크포인트부터 이어서 탐색)
+     */
+    @Scheduled(fixedDelayString = "${upload.gc.interval:PT1H}", initialDelayString = "${upload.gc.initial-delay:PT5M}")
+    public void collectOrphanedFiles() {
+        try {
+            boolean executed = jobLeaseManager.runExclusively(UploadGarbageCollector.JOB_NAME, leaseTtl, interval,
+                    uploadGarbageCollector::run);
+            if (!executed) {
+                log.info("* 다른 노드에서 고아 파일 정리 작업 실행 중 → 건너뜀");
+            }
+        } catch (Exception e) {
+            log.error("* 고아 파일 정리 중 예외 발생: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package ktb.community.be.global.scheduler;
+
+import ktb.community.be.domain.upload.application.UploadService;
+import ktb.community.be.global.job.JobLeaseManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UploadTokenSweepScheduler {
+
+    private static final String JOB_NAME = "upload-token-sweep";
+
+    private final UploadService uploadService;
+    private final JobLeaseManager jobLeaseManager;
+
+    @Value("${job.lease.ttl:PT1M}")
+    private Duration leaseTtl;
+
+    @Value("${upload.token.sweep-interval:PT10M}")
+    private Duration interval;
+
+    @Value("${upload.token.sweep-chunk-size:200}")
+    private int chunkSize;
+
+    /**
+     * 첨부되지 않고 만료된 업로드 토큰 정리
+     */
+    @Scheduled(fixedDelayString = "${upload.token.sweep-interval:PT10M}")
+    public void sweepExpiredTokens() {
+        try {
+            jobLeaseManager.runExclusively(JOB_NAME, leaseTtl, interval, lease -> {
+                int swept = 0;
+                int chunk;
+                do {
+                    chunk = uploadService.sweepExpired(lease, chunkSize);
+                    swept += chunk;
+                } while (chunk == chunkSize);
+
+                if (swept > 0) {
+                    log.info("* 만료된 업로드 토큰 정리 완료 ({}건)", swept);
+                }
+            });
+        } catch (Exception e) {
+            log.error("* 만료된 업로드 토큰 정리 중 예외 발생: {}", e.getMessage(), e);
+        }
+    }
+}
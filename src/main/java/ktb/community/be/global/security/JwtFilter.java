@@ -4,6 +4,10 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import ktb.community.be.global.jfr.BlacklistCheckEvent;
+import ktb.community.be.global.jfr.JwtVerificationEvent;
+import ktb.community.be.global.timing.ServerTiming;
+import ktb.community.be.global.timing.TimingPhase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
@@ -32,21 +36,43 @@ public class JwtFilter extends OncePerRequestFilter {
         String jwt = resolveToken(request);
 
         // 블랙리스트 검사
-        if (StringUtils.hasText(jwt) && tokenBlacklistService.isBlacklisted(jwt)) {
+        if (StringUtils.hasText(jwt) && isBlacklisted(jwt)) {
             filterChain.doFilter(request, response); // 인증 없이 넘김
             return;
         }
 
         // 2. validateToken 으로 토큰 유효성 검사
         // 정상 토큰이면 해당 토큰으로 Authentication 을 가져와서 SecurityContext 에 저장
-        if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-            Authentication authentication = tokenProvider.getAuthentication(jwt);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (StringUtils.hasText(jwt)) {
+            long authStartedAt = System.nanoTime();
+            JwtVerificationEvent event = new JwtVerificationEvent();
+            event.begin();
+            if (tokenProvider.validateToken(jwt)) {
+                Authentication authentication = tokenProvider.getAuthentication(jwt);
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                ServerTiming.authorize(authentication);
+                event.valid = true;
+            }
+            event.commit();
+            ServerTiming.record(TimingPhase.AUTH, authStartedAt);
         }
 
         filterChain.doFilter(request, response);
     }
 
+    private boolean isBlacklisted(String jwt) {
+        long startedAt = System.nanoTime();
+        BlacklistCheckEvent event = new BlacklistCheckEvent();
+        event.begin();
+        try {
+            event.blacklisted = tokenBlacklistService.isBlacklisted(jwt);
+            return event.blacklisted;
+        } finally {
+            event.commit();
+            ServerTiming.record(TimingPhase.BLACKLIST, startedAt);
+        }
+    }
+
     // Request Header 에서 토큰 정보를 꺼내오기
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
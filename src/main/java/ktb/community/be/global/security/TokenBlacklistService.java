@@ -1,6 +1,7 @@
 package ktb.community.be.global.security;
 
 import io.rebloom.client.Client;
+import ktb.community.be.global.metrics.LatencyTimed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -32,6 +33,7 @@ public class TokenBlacklistService {
         log.info("[블랙리스트 등록 완료] token={}, TTL={}ms", accessToken, expirationTimeMillis);
     }
 
+    @LatencyTimed
     public boolean isBlacklisted(String accessToken) {
         boolean mightExist = bloomClient.exists(BLOOM_FILTER_NAME, accessToken);
         if (!mightExist) return false;
@@ -0,0 +1,205 @@
+package ktb.community.be.global.storage;
+
+import ktb.community.be.global.util.FileStorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 서버 디스크 저장소 (file.upload-dir 하위)
+ * - 직접 업로드는 HMAC 서명된 URL 로 LocalStorageUploadController 가 받음
+ * - 다운로드는 /uploads/** (UploadFileController) 로 제공
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalObjectStorage implements ObjectStorage {
+
+    public static final String DIRECT_UPLOAD_PATH = "/storage/local/";
+    private static final String TEMP_SUB_DIR = ".tmp";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final Path root;
+    private final byte[] signingKey;
+
+    public LocalObjectStorage(@Value("${file.upload-dir:${user.dir}/uploads}") String uploadDir,
+                              @Value("${storage.local.signing-key:${jwt.secret}}") String signingKey) {
+        this.root = Path.of(uploadDir).toAbsolutePath().normalize();
+        this.signingKey = signingKey.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean putIfAbsent(String key, Path source, String contentType) throws IOException {
+        Path target = resolve(key).orElseThrow(() -> new IOException("잘못된 저장 키: " + key));
+        Files.createDirectories(target.getParent());
+        if (Files.exists(target)) {
+            // 고아 파일 정리의 유예 기간을 다시 시작
+            Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+            return false;
+        }
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean moveIfAbsent(String sourceKey, String targetKey) throws IOException {
+        Path source = localPath(sourceKey).orElseThrow(() -> new IOException("파일이 없습니다: " + sourceKey));
+        if (putIfAbsent(targetKey, source, null)) {
+            return true;
+        }
+        Files.deleteIfExists(source);
+        return false;
+    }
+
+    @Override
+    public Optional<StoredObjectInfo> stat(String key) throws IOException {
+        Optional<Path> file = localPath(key);
+        if (file.isEmpty()) return Optional.empty();
+        BasicFileAttributes attributes = Files.readAttributes(file.get(), BasicFileAttributes.class);
+        return Optional.of(new StoredObjectInfo(attributes.size(), attributes.lastModifiedTime().toInstant()));
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        Path file = localPath(key).orElseThrow(() -> new IOException("파일이 없습니다: " + key));
+        return Files.newInputStream(file);
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        Optional<Path> file = resolve(key);
+        return file.isPresent() && Files.deleteIfExists(file.get());
+    }
+
+    /**
+     * 디렉토리 단위로 읽으면서 startAfter 이전 디렉토리는 건너뜀 → 전체 목록을 메모리에 올리지 않음
+     */
+    @Override
+    public List<String> list(String prefix, String startAfter, int limit) throws IOException {
+        List<String> keys = new ArrayList<>(limit);
+        Optional<Path> dir = resolve(prefix).filter(Files::isDirectory);
+        if (dir.isPresent()) {
+            collectKeys(dir.get(), prefix.endsWith("/") ? prefix : prefix + "/", startAfter, limit, keys);
+        }
+        return keys;
+    }
+
+    private void collectKeys(Path dir, String prefix, String startAfter, int limit, List<String> keys) throws IOException {
+        List<String> children;
+        try (Stream<Path> stream = Files.list(dir)) {
+            // 디렉토리는 "/" 를 붙여 정렬 → 전체 경로 문자열의 사전순과 같은 순서로 탐색
+            children = stream
+                    .map(child -> prefix + child.getFileName() + (Files.isDirectory(child) ? "/" : ""))
+                    .sorted()
+                    .toList();
+        }
+        for (String key : children) {
+            if (keys.size() >= limit) return;
+            if (key.endsWith("/")) {
+                if (!isBefore(key, startAfter)) {
+                    collectKeys(root.resolve(key), key, startAfter, limit, keys);
+                }
+            } else if (startAfter == null || key.compareTo(startAfter) > 0) {
+                keys.add(key);
+            }
+        }
+    }
+
+    /**
+     * 디렉토리 전체가 startAfter 이전에 있는지 (startAfter 가 디렉토리 안에 있으면 false)
+     */
+    private static boolean isBefore(String dirKey, String startAfter) {
+        return startAfter != null && dirKey.compareTo(startAfter) < 0 && !startAfter.startsWith(dirKey);
+    }
+
+    @Override
+    public PresignedRequest presignPut(String key, String contentType, long contentLength, String sha256Hex, Duration ttl) {
+        long expires = Instant.now().plus(ttl).getEpochSecond();
+        String signature = sign(key, contentType, contentLength, sha256Hex, expires);
+        String url = DIRECT_UPLOAD_PATH + key
+                + "?contentType=" + UriUtils.encodeQueryParam(contentType, StandardCharsets.UTF_8)
+                + "&length=" + contentLength
+                + "&sha256=" + sha256Hex
+                + "&expires=" + expires
+                + "&signature=" + signature;
+        return new PresignedRequest(url, "PUT", Map.of("Content-Type", contentType));
+    }
+
+    /**
+     * 직접 업로드 URL 서명 검증 (만료 포함)
+     */
+    public boolean verifyPutSignature(String key, String contentType, long contentLength, String sha256Hex,
+                                      long expires, String signature) {
+        if (Instant.now().getEpochSecond() > expires || signature == null) return false;
+        String expected = sign(key, contentType, contentLength, sha256Hex, expires);
+        return MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8), signature.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String sign(String key, String contentType, long contentLength, String sha256Hex, long expires) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(signingKey, HMAC_ALGORITHM));
+            String payload = String.join("\n", "PUT", key, contentType, Long.toString(contentLength), sha256Hex, Long.toString(expires));
+            return HexFormat.of().formatHex(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("업로드 URL 서명 실패", e);
+        }
+    }
+
+    /**
+     * 로컬 파일은 서명 없이 /uploads/** 로 제공
+     */
+    @Override
+    public String presignGet(String key, Duration ttl) {
+        return FileStorageService.UPLOAD_URL_PREFIX + key;
+    }
+
+    @Override
+    public Path tempDirectory() throws IOException {
+        return Files.createDirectories(root.resolve(TEMP_SUB_DIR));
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        return resolve(key).filter(Files::isRegularFile);
+    }
+
+    /**
+     * 키 → 저장소 내부 경로 (저장소 루트 밖을 가리키는 경로(../ 등)는 empty)
+     */
+    private Optional<Path> resolve(String key) {
+        Path resolved = root.resolve(key).normalize();
+        if (!resolved.startsWith(root) || resolved.equals(root)) {
+            return Optional.empty();
+        }
+        return Optional.of(resolved);
+    }
+}
@@ -0,0 +1,63 @@
+package ktb.community.be.global.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 업로드 파일 저장소 (키: posts/ab/cd/{sha256}.png 형식의 상대 경로)
+ * - storage.type=local : 서버 디스크 (LocalObjectStorage)
+ * - storage.type=s3    : S3 호환 오브젝트 스토리지 (S3ObjectStorage)
+ */
+public interface ObjectStorage {
+
+    /**
+     * 키에 객체가 없을 때만 source 파일 내용을 저장 (이미 있으면 false)
+     */
+    boolean putIfAbsent(String key, Path source, String contentType) throws IOException;
+
+    /**
+     * sourceKey 객체를 targetKey 로 이동 (targetKey 에 이미 있으면 덮어쓰지 않고 false, sourceKey 는 어느 쪽이든 삭제)
+     */
+    boolean moveIfAbsent(String sourceKey, String targetKey) throws IOException;
+
+    /**
+     * 객체 크기/수정 시각 조회 (없으면 empty)
+     */
+    Optional<StoredObjectInfo> stat(String key) throws IOException;
+
+    InputStream open(String key) throws IOException;
+
+    boolean delete(String key) throws IOException;
+
+    /**
+     * prefix 하위 키를 사전순으로 startAfter 다음부터 최대 limit 개 조회
+     */
+    List<String> list(String prefix, String startAfter, int limit) throws IOException;
+
+    /**
+     * 클라이언트가 저장소로 직접 올릴 수 있는 서명된 PUT 요청
+     * - 내용 길이, Content-Type, SHA-256 이 서명에 포함되어 다른 내용은 올릴 수 없음
+     */
+    PresignedRequest presignPut(String key, String contentType, long contentLength, String sha256Hex, Duration ttl);
+
+    /**
+     * 클라이언트가 저장소에서 직접 받을 수 있는 다운로드 URL
+     */
+    String presignGet(String key, Duration ttl);
+
+    /**
+     * 저장 전 임시 파일을 만들 디렉토리 (로컬 저장소는 원자적 이동을 위해 같은 파일시스템)
+     */
+    Path tempDirectory() throws IOException;
+
+    /**
+     * 서버가 파일을 직접 제공할 수 있으면 로컬 경로 (원격 저장소는 empty)
+     */
+    default Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+}
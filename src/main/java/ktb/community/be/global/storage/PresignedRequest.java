@@ -0,0 +1,9 @@
+package ktb.community.be.global.storage;
+
+import java.util.Map;
+
+/**
+ * 서명된 업로드 요청 (클라이언트는 headers 를 그대로 포함해서 url 로 method 요청)
+ */
+public record PresignedRequest(String url, String method, Map<String, String> headers) {
+}
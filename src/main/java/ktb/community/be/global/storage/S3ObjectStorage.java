@@ -0,0 +1,201 @@
+package ktb.community.be.global.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * S3 호환 오브젝트 스토리지 (AWS S3, MinIO 등)
+ * - 저장: 조건부 PUT (If-None-Match: *) → 같은 키가 이미 있으면 덮어쓰지 않음
+ * - 직접 업로드/다운로드: 서명된 URL (presigned PUT/GET)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3")
+public class S3ObjectStorage implements ObjectStorage {
+
+    private static final int MAX_KEYS_PER_REQUEST = 1000;
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final String bucket;
+    private final Path tempDirectory;
+
+    public S3ObjectStorage(S3Client s3Client,
+                           S3Presigner s3Presigner,
+                           @Value("${storage.s3.bucket}") String bucket,
+                           @Value("${storage.temp-dir:${java.io.tmpdir}/community-uploads}") String tempDirectory) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.bucket = bucket;
+        this.tempDirectory = Path.of(tempDirectory);
+    }
+
+    @Override
+    public boolean putIfAbsent(String key, Path source, String contentType) throws IOException {
+        try {
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .contentType(contentType)
+                            .ifNoneMatch("*")
+                            .build(),
+                    RequestBody.fromFile(source));
+            return true;
+        } catch (S3Exception e) {
+            // 412: 이미 있음, 409: 같은 키에 대한 조건부 PUT 이 동시에 진행 중
+            if (e.statusCode() == 412 || e.statusCode() == 409) {
+                return false;
+            }
+            throw new IOException("S3 저장 실패: " + key, e);
+        }
+    }
+
+    /**
+     * S3 에는 이동이 없음 → 복사 후 원본 삭제 (같은 키는 같은 내용이라 동시에 복사되어도 결과가 같음)
+     */
+    @Override
+    public boolean moveIfAbsent(String sourceKey, String targetKey) throws IOException {
+        boolean copied = false;
+        if (stat(targetKey).isEmpty()) {
+            try {
+                s3Client.copyObject(CopyObjectRequest.builder()
+                        .sourceBucket(bucket)
+                        .sourceKey(sourceKey)
+                        .destinationBucket(bucket)
+                        .destinationKey(targetKey)
+                        .build());
+                copied = true;
+            } catch (S3Exception e) {
+                throw new IOException("S3 복사 실패: " + sourceKey + " → " + targetKey, e);
+            }
+        }
+        delete(sourceKey);
+        return copied;
+    }
+
+    @Override
+    public Optional<StoredObjectInfo> stat(String key) throws IOException {
+        try {
+            HeadObjectResponse head = s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+            return Optional.of(new StoredObjectInfo(head.contentLength(), head.lastModified()));
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw new IOException("S3 조회 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        try {
+            return s3Client.getObject(GetObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (S3Exception e) {
+            throw new IOException("S3 읽기 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+            return true;
+        } catch (S3Exception e) {
+            throw new IOException("S3 삭제 실패: " + key, e);
+        }
+    }
+
+    /**
+     * ListObjectsV2 는 키를 UTF-8 바이트 사전순으로 반환 → startAfter 로 이어서 조회
+     */
+    @Override
+    public List<String> list(String prefix, String startAfter, int limit) throws IOException {
+        List<String> keys = new ArrayList<>(limit);
+        String continuationToken = null;
+        try {
+            do {
+                ListObjectsV2Response response = s3Client.listObjectsV2(ListObjectsV2Request.builder()
+                        .bucket(bucket)
+                        .prefix(prefix)
+                        .startAfter(continuationToken == null ? startAfter : null)
+                        .continuationToken(continuationToken)
+                        .maxKeys(Math.min(limit - keys.size(), MAX_KEYS_PER_REQUEST))
+                        .build());
+                response.contents().stream().map(S3Object::key).forEach(keys::add);
+                continuationToken = Boolean.TRUE.equals(response.isTruncated()) ? response.nextContinuationToken() : null;
+            } while (continuationToken != null && keys.size() < limit);
+        } catch (S3Exception e) {
+            throw new IOException("S3 목록 조회 실패: " + prefix, e);
+        }
+        return keys;
+    }
+
+    @Override
+    public PresignedRequest presignPut(String key, String contentType, long contentLength, String sha256Hex, Duration ttl) {
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(ttl)
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength(contentLength)
+                        // 저장소가 내용의 SHA-256 을 검증 → 키(해시)와 다른 내용은 저장되지 않음
+                        .checksumSHA256(Base64.getEncoder().encodeToString(HexFormat.of().parseHex(sha256Hex)))
+                        .build())
+                .build());
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!name.equalsIgnoreCase("host")) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+        return new PresignedRequest(presigned.url().toString(), presigned.httpRequest().method().name(), headers);
+    }
+
+    @Override
+    public String presignGet(String key, Duration ttl) {
+        return s3Presigner.presignGetObject(GetObjectPresignRequest.builder()
+                        .signatureDuration(ttl)
+                        .getObjectRequest(GetObjectRequest.builder().bucket(bucket).key(key).build())
+                        .build())
+                .url()
+                .toString();
+    }
+
+    @Override
+    public Path tempDirectory() throws IOException {
+        return Files.createDirectories(tempDirectory);
+    }
+}
@@ -0,0 +1,39 @@
+package ktb.community.be.global.storage;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 해시(SHA-256) 기반으로 한 번만 저장되는 업로드 파일
+ * - refCount: 이 파일을 참조하는 PostImage / Member.profileImageUrl 수
+ */
+@Entity
+@Table(name = "stored_file")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoredFile {
+
+    // 업로드 루트 기준 상대 경로 (posts/ab/cd/{sha256}.png)
+    @Id
+    @Column(length = 255)
+    private String storageKey;
+
+    @Column(length = 64, nullable = false)
+    private String sha256;
+
+    @Column(nullable = false)
+    private Long size;
+
+    @Column(nullable = false)
+    private Integer refCount;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,62 @@
+package ktb.community.be.global.storage;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StoredFileRepository extends JpaRepository<StoredFile, String> {
+
+    /**
+     * 참조 추가 (처음 저장되는 파일이면 행 생성)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO stored_file (storage_key, sha256, size, ref_count, created_at, updated_at) " +
+            "VALUES (:storageKey, :sha256, :size, 1, NOW(6), NOW(6)) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, updated_at = NOW(6)", nativeQuery = true)
+    int incrementRefCount(@Param("storageKey") String storageKey,
+                          @Param("sha256") String sha256,
+                          @Param("size") long size);
+
+    /**
+     * 참조 해제 (0 미만으로 내려가지 않음)
+     */
+    @Modifying
+    @Query(value = "UPDATE stored_file SET ref_count = GREATEST(ref_count - :count, 0), updated_at = NOW(6) " +
+            "WHERE storage_key IN (:storageKeys)", nativeQuery = true)
+    int decrementRefCount(@Param("storageKeys") Collection<String> storageKeys, @Param("count") int count);
+
+    /**
+     * 참조 수를 실제 참조(활성 게시글 이미지 + 프로필 이미지 + 첨부 전 READY 업로드 토큰) 수로 다시 맞춤
+     */
+    @Modifying
+    @Query(value = "UPDATE stored_file SET ref_count = " +
+            "(SELECT COUNT(*) FROM post_image WHERE image_url = :imageUrl AND is_deleted = 0) + " +
+            "(SELECT COUNT(*) FROM member WHERE profile_image_url = :imageUrl) + " +
+            "(SELECT COUNT(*) FROM upload_token WHERE image_url = :imageUrl AND status = 'READY'), " +
+            "updated_at = NOW(6) WHERE storage_key = :storageKey", nativeQuery = true)
+    int reconcileRefCount(@Param("storageKey") String storageKey, @Param("imageUrl") String imageUrl);
+
+    /**
+     * 주어진 키 중 유예 기간 안에 참조 수가 바뀐 키 (방금 업로드/해제된 파일)
+     */
+    @Query("SELECT s.storageKey FROM StoredFile s WHERE s.storageKey IN :storageKeys AND s.updatedAt > :updatedAfter")
+    List<String> findRecentlyUpdatedKeys(@Param("storageKeys") Collection<String> storageKeys,
+                                         @Param("updatedAfter") LocalDateTime updatedAfter);
+
+    /**
+     * 삭제 직전 잠금 (같은 내용의 업로드가 동시에 참조를 추가하지 못하도록)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM StoredFile s WHERE s.storageKey = :storageKey")
+    Optional<StoredFile> findByIdForUpdate(@Param("storageKey") String storageKey);
+}
@@ -0,0 +1,53 @@
+package ktb.community.be.global.storage;
+
+import ktb.community.be.global.util.FileStorageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 업로드 파일 참조 수 관리 (호출 측 트랜잭션에 참여 → 엔티티 저장/삭제와 함께 커밋/롤백)
+ */
+@Service
+@RequiredArgsConstructor
+public class StoredFileService {
+
+    private final StoredFileRepository storedFileRepository;
+
+    @Transactional
+    public void acquire(String storageKey, String sha256, long size) {
+        storedFileRepository.incrementRefCount(storageKey, sha256, size);
+    }
+
+    /**
+     * 이미지 URL 목록의 참조 해제 (같은 URL 이 여러 번 있으면 그 수만큼 감소)
+     */
+    @Transactional
+    public void releaseAll(Collection<String> imageUrls) {
+        Map<String, Long> countsByKey = imageUrls.stream()
+                .filter(Objects::nonNull)
+                .filter(url -> url.startsWith(FileStorageService.UPLOAD_URL_PREFIX))
+                .map(url -> url.substring(FileStorageService.UPLOAD_URL_PREFIX.length()))
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        // 감소 수가 같은 키끼리 묶어서 한 번에 UPDATE (대부분 1)
+        countsByKey.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())))
+                .forEach((count, keys) -> storedFileRepository.decrementRefCount(keys, count.intValue()));
+    }
+
+    @Transactional
+    public void release(String imageUrl) {
+        if (imageUrl != null) {
+            releaseAll(List.of(imageUrl));
+        }
+    }
+}
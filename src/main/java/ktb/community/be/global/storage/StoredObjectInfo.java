@@ -0,0 +1,6 @@
+package ktb.community.be.global.storage;
+
+import java.time.Instant;
+
+public record StoredObjectInfo(long size, Instant lastModified) {
+}
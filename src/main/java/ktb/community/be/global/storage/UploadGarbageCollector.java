@@ -0,0 +1,267 @@
+package ktb.community.be.global.storage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import ktb.community.be.domain.image.dao.PostImageRepository;
+import ktb.community.be.domain.member.dao.MemberRepository;
+import ktb.community.be.domain.upload.dao.UploadTokenRepository;
+import ktb.community.be.global.job.JobCheckpoint;
+import ktb.community.be.global.job.JobCheckpointRepository;
+import ktb.community.be.global.job.JobLeaseHandle;
+import ktb.community.be.global.job.JobLeaseManager;
+import ktb.community.be.global.util.FileStorageService;
+import ktb.community.be.global.util.ImageVariant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 더 이상 참조되지 않는 업로드 파일을 삭제하는 점진적 정리 작업
+ * - 저장소를 키 사전순으로 배치 단위 탐색, 마지막 키를 체크포인트로 저장 → 다음 실행은 이어서 탐색
+ * - 배치마다 게시글 이미지 / 프로필 이미지 / 미첨부 업로드 토큰을 IN 쿼리로 한 번에 확인
+ * - 유예 기간 안에 업로드/삭제/참조 변경된 파일은 건너뜀
+ * - 참조가 없는데 stored_file 참조 수가 남아 있으면 삭제하지 않고 배치 끝에 참조 수만 다시 계산
+ *   (다시 계산하면 유예 기간이 새로 시작 → 다음 바퀴에서 다시 확인 후 삭제)
+ * - 초당 삭제 수를 제한하여 요청 처리 I/O 와 경쟁하지 않음
+ */
+@Slf4j
+@Component
+public class UploadGarbageCollector {
+
+    public static final String JOB_NAME = "upload-gc";
+
+    private final FileStorageService fileStorageService;
+    private final StoredFileRepository storedFileRepository;
+    private final PostImageRepository postImageRepository;
+    private final MemberRepository memberRepository;
+    private final UploadTokenRepository uploadTokenRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final JobLeaseManager jobLeaseManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter scannedCounter;
+    private final Counter deletedCounter;
+
+    @Value("${upload.gc.grace-period:P7D}")
+    private Duration gracePeriod;
+
+    @Value("${upload.gc.batch-size:500}")
+    private int batchSize;
+
+    @Value("${upload.gc.max-deletes-per-second:20}")
+    private int maxDeletesPerSecond;
+
+    @Value("${upload.gc.max-run-duration:PT10M}")
+    private Duration maxRunDuration;
+
+    public UploadGarbageCollector(FileStorageService fileStorageService,
+                                  StoredFileRepository storedFileRepository,
+                                  PostImageRepository postImageRepository,
+                                  MemberRepository memberRepository,
+                                  UploadTokenRepository uploadTokenRepository,
+                                  JobCheckpointRepository jobCheckpointRepository,
+                                  JobLeaseManager jobLeaseManager,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry) {
+        this.fileStorageService = fileStorageService;
+        this.storedFileRepository = storedFileRepository;
+        this.postImageRepository = postImageRepository;
+        this.memberRepository = memberRepository;
+        this.uploadTokenRepository = uploadTokenRepository;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.jobLeaseManager = jobLeaseManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.scannedCounter = Counter.builder("upload.gc.scanned")
+                .description("고아 파일 정리 작업이 확인한 파일 수")
+                .register(meterRegistry);
+        this.deletedCounter = Counter.builder("upload.gc.deleted")
+                .description("고아 파일 정리 작업이 삭제한 파일 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 체크포인트부터 최대 실행 시간 동안 탐색 (끝까지 탐색하면 체크포인트 초기화)
+     */
+    public Result run(JobLeaseHandle lease) {
+        long deadline = System.nanoTime() + maxRunDuration.toNanos();
+        LocalDateTime threshold = LocalDateTime.now().minus(gracePeriod);
+        long scanned = 0;
+        long deleted = 0;
+
+        while (System.nanoTime() < deadline && !lease.isLost()) {
+            JobCheckpoint checkpoint = jobCheckpointRepository.findOrCreate(JOB_NAME);
+            List<String> keys = listKeys(checkpoint.getPosition());
+
+            if (keys.isEmpty()) {
+                // 한 바퀴 탐색 완료 → 다음 실행은 처음부터
+                saveCheckpoint(lease, null);
+                break;
+            }
+
+            deleted += processBatch(lease, keys, threshold);
+            scanned += keys.size();
+            scannedCounter.increment(keys.size());
+            saveCheckpoint(lease, keys.get(keys.size() - 1));
+        }
+
+        Result result = new Result(scanned, deleted);
+        log.info("[고아 파일 정리] 확인={}, 삭제={}", result.scanned(), result.deleted());
+        return result;
+    }
+
+    /**
+     * 배치 하나 처리 → 삭제한 파일 수 반환
+     */
+    private int processBatch(JobLeaseHandle lease, List<String> keys, LocalDateTime threshold) {
+        Set<String> liveUrls = findLiveUrls(keys, threshold);
+        Set<String> storageKeys = new LinkedHashSet<>();
+        for (String key : keys) {
+            storageKeys.add(key);
+            ImageVariant.originalOf(key).ifPresent(storageKeys::add);
+        }
+        Set<String> recentKeys = new HashSet<>(storedFileRepository.findRecentlyUpdatedKeys(storageKeys, threshold));
+        Instant modifiedThreshold = threshold.atZone(ZoneId.systemDefault()).toInstant();
+
+        int deleted = 0;
+        List<String> mismatchedKeys = new ArrayList<>();
+        for (String key : keys) {
+            if (lease.isLost()) break;
+            if (isLive(key, liveUrls) || recentKeys.contains(key)
+                    || ImageVariant.originalOf(key).map(recentKeys::contains).orElse(false)) continue;
+
+            // 유예 기간 안에 저장(또는 중복 업로드)된 파일은 유지
+            Optional<Instant> lastModified = fileStorageService.getLastModified(key);
+            if (lastModified.isEmpty() || lastModified.get().isAfter(modifiedThreshold)) continue;
+
+            switch (deleteIfUnreferenced(lease, key, threshold)) {
+                case DELETED -> {
+                    deleted++;
+                    deletedCounter.increment();
+                    throttle();
+                }
+                case REF_COUNT_MISMATCH -> mismatchedKeys.add(key);
+                case SKIPPED -> {
+                }
+            }
+        }
+        if (!mismatchedKeys.isEmpty() && !lease.isLost()) {
+            reconcileRefCounts(lease, mismatchedKeys);
+        }
+        return deleted;
+    }
+
+    /**
+     * 배치의 파일 URL(변형본은 원본 URL 도 함께) 중 사용 중인 URL
+     */
+    private Set<String> findLiveUrls(List<String> keys, LocalDateTime threshold) {
+        Set<String> urls = new LinkedHashSet<>();
+        for (String key : keys) {
+            String url = FileStorageService.UPLOAD_URL_PREFIX + key;
+            urls.add(url);
+            ImageVariant.originalOf(url).ifPresent(urls::add);
+        }
+
+        Set<String> liveUrls = new HashSet<>();
+        liveUrls.addAll(postImageRepository.findReferencedImageUrls(urls, threshold));
+        liveUrls.addAll(memberRepository.findReferencedProfileImageUrls(urls));
+        liveUrls.addAll(uploadTokenRepository.findReferencedImageUrls(urls));
+        return liveUrls;
+    }
+
+    private boolean isLive(String key, Set<String> liveUrls) {
+        String url = FileStorageService.UPLOAD_URL_PREFIX + key;
+        return liveUrls.contains(url) || ImageVariant.originalOf(url).map(liveUrls::contains).orElse(false);
+    }
+
+    /**
+     * stored_file 행을 잠근 상태에서 다시 확인 후 삭제
+     * - 같은 내용의 업로드는 참조 추가(행 갱신) 후 파일을 이동하므로, 잠금 이후의 업로드는 파일을 새로 놓음
+     * - 참조 수가 남아 있으면 삭제하지 않음 (참조 확인 쿼리가 놓친 참조일 수 있음)
+     */
+    private Outcome deleteIfUnreferenced(JobLeaseHandle lease, String key, LocalDateTime threshold) {
+        return transactionTemplate.execute(status -> {
+            jobLeaseManager.verifyHeld(lease);
+
+            Optional<StoredFile> storedFile = storedFileRepository.findByIdForUpdate(key);
+            if (storedFile.isPresent() && storedFile.get().getUpdatedAt().isAfter(threshold)) {
+                return Outcome.SKIPPED;
+            }
+            if (storedFile.isPresent() && storedFile.get().getRefCount() > 0) {
+                log.warn("[고아 파일 정리] 참조 수 불일치 → 삭제하지 않음 key={}, refCount={}", key, storedFile.get().getRefCount());
+                return Outcome.REF_COUNT_MISMATCH;
+            }
+            try {
+                boolean removed = fileStorageService.deleteStoredFile(key);
+                storedFile.ifPresent(storedFileRepository::delete);
+                return removed ? Outcome.DELETED : Outcome.SKIPPED;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * 참조 수 불일치 키의 참조 수를 실제 참조 수로 다시 계산 (삭제와 분리된 단계)
+     */
+    private void reconcileRefCounts(JobLeaseHandle lease, List<String> keys) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jobLeaseManager.verifyHeld(lease);
+            keys.forEach(key -> storedFileRepository.reconcileRefCount(key, FileStorageService.UPLOAD_URL_PREFIX + key));
+        });
+        log.info("[고아 파일 정리] 참조 수 재계산 {}건", keys.size());
+    }
+
+    private List<String> listKeys(String afterKey) {
+        try {
+            return fileStorageService.listStoredKeys(afterKey, batchSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void saveCheckpoint(JobLeaseHandle lease, String lastKey) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jobLeaseManager.verifyHeld(lease);
+            JobCheckpoint checkpoint = jobCheckpointRepository.findOrCreate(JOB_NAME);
+            if (lastKey == null) {
+                checkpoint.reset();
+            } else {
+                checkpoint.updatePosition(lastKey);
+            }
+            jobCheckpointRepository.save(checkpoint);
+        });
+    }
+
+    /**
+     * 초당 삭제 수 제한
+     */
+    private void throttle() {
+        if (maxDeletesPerSecond <= 0) return;
+        try {
+            Thread.sleep(1000L / maxDeletesPerSecond);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public record Result(long scanned, long deleted) {
+    }
+
+    private enum Outcome {
+        DELETED, SKIPPED, REF_COUNT_MISMATCH
+    }
+}
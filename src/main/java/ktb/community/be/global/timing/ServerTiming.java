@@ -0,0 +1,84 @@
+package ktb.community.be.global.timing;
+
+import org.springframework.security.core.Authentication;
+
+/**
+ * 요청 단위 구간별 소요 시간 수집 (ServerTimingFilter 가 시작/종료, 각 지점에서 record)
+ * - 요청 스레드에서만 기록 (다른 스레드의 비동기 작업은 ThreadLocal 이 없어 무시됨)
+ * - 구간은 겹칠 수 있음 (예: file-io 안의 stored_file 조회는 db 에도 포함)
+ * - 사용: long startedAt = System.nanoTime(); ... ServerTiming.record(TimingPhase.DB, startedAt);
+ */
+public final class ServerTiming {
+
+    private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+    private static final TimingPhase[] PHASES = TimingPhase.values();
+    private static final String ADMIN_AUTHORITY = "ROLE_ADMIN";
+
+    private final long startedAt = System.nanoTime();
+    private final long[] nanos = new long[PHASES.length];
+    private final int[] counts = new int[PHASES.length];
+    private boolean admin;
+
+    private ServerTiming() {
+    }
+
+    static ServerTiming start() {
+        ServerTiming timing = new ServerTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * startedAt(System.nanoTime) 부터 지금까지를 phase 에 더함 (수집 중이 아니면 무시)
+     */
+    public static void record(TimingPhase phase, long startedAt) {
+        ServerTiming timing = CURRENT.get();
+        if (timing == null) return;
+        timing.nanos[phase.ordinal()] += System.nanoTime() - startedAt;
+        timing.counts[phase.ordinal()]++;
+    }
+
+    /**
+     * 인증된 사용자가 관리자면 헤더 노출 허용 (server-timing.mode=admin)
+     */
+    public static void authorize(Authentication authentication) {
+        ServerTiming timing = CURRENT.get();
+        if (timing == null) return;
+        timing.admin = authentication.getAuthorities().stream()
+                .anyMatch(authority -> ADMIN_AUTHORITY.equals(authority.getAuthority()));
+    }
+
+    boolean isAdmin() {
+        return admin;
+    }
+
+    /**
+     * 예: auth;dur=0.41, db;desc="x7";dur=8.12, serialize;dur=1.03, total;dur=12.40
+     */
+    String toHeaderValue() {
+        StringBuilder header = new StringBuilder(128);
+        for (TimingPhase phase : PHASES) {
+            int count = counts[phase.ordinal()];
+            if (count == 0) continue;
+            header.append(phase.getMetricName());
+            if (count > 1) {
+                header.append(";desc=\"x").append(count).append('"');
+            }
+            appendDuration(header, nanos[phase.ordinal()]).append(", ");
+        }
+        header.append("total");
+        return appendDuration(header, System.nanoTime() - startedAt).toString();
+    }
+
+    private static StringBuilder appendDuration(StringBuilder header, long nanos) {
+        long hundredths = nanos / 10_000; // ms 소수 둘째 자리까지
+        header.append(";dur=").append(hundredths / 100).append('.');
+        long fraction = hundredths % 100;
+        if (fraction < 10) header.append('0');
+        return header.append(fraction);
+    }
+}
@@ -0,0 +1,56 @@
+package ktb.community.be.global.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * API 응답에 Server-Timing 헤더 추가 (브라우저 개발자 도구 Network → Timing 탭에 구간별로 표시)
+ * - server-timing.mode: off(기본) | all(모든 요청) | admin(ROLE_ADMIN 토큰으로 호출한 요청만)
+ * - 헤더는 본문보다 먼저 나가야 하므로 응답 본문을 버퍼링함 → 켜진 동안은 /api, /auth 요청만 대상
+ * - 관리자 여부는 JwtFilter 가 인증 후 알려줌 (요청이 끝난 시점에는 SecurityContext 가 비워져 있음)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final String mode;
+
+    public ServerTimingFilter(@Value("${server-timing.mode:off}") String mode) {
+        this.mode = mode;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if ("off".equals(mode)) return true;
+        String uri = request.getRequestURI();
+        return !uri.startsWith("/api/") && !uri.startsWith("/auth/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        ServerTiming timing = ServerTiming.start();
+        try {
+            filterChain.doFilter(request, cachingResponse);
+        } finally {
+            ServerTiming.stop();
+            if ("all".equals(mode) || timing.isAdmin()) {
+                cachingResponse.setHeader(SERVER_TIMING_HEADER, timing.toHeaderValue());
+            }
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package ktb.community.be.global.timing;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate 세션의 JDBC 구간(커넥션 획득, 문장 실행, 배치 실행)을 db 로 기록
+ * - hibernate.session.events.auto 로 세션마다 새로 생성 (세션은 한 스레드에서만 쓰이므로 필드에 시작 시각 보관)
+ */
+public class ServerTimingSessionListener implements SessionEventListener {
+
+    private long connectionStartedAt;
+    private long statementStartedAt;
+    private long batchStartedAt;
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        connectionStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        ServerTiming.record(TimingPhase.DB, connectionStartedAt);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        ServerTiming.record(TimingPhase.DB, statementStartedAt);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        ServerTiming.record(TimingPhase.DB, batchStartedAt);
+    }
+}
@@ -0,0 +1,31 @@
+package ktb.community.be.global.timing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * JSON 응답 직렬화 시간을 serialize 로 기록
+ * - ServerTimingFilter 가 켜져 있으면 본문이 메모리 버퍼로 쓰이므로 네트워크 전송 없이 순수 직렬화 시간
+ */
+public class TimedJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TimedJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long startedAt = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            ServerTiming.record(TimingPhase.SERIALIZE, startedAt);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package ktb.community.be.global.timing;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Server-Timing 헤더에 나가는 구간 (이름은 브라우저 개발자 도구에 그대로 표시됨)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TimingPhase {
+
+    AUTH("auth"),
+    BLACKLIST("blacklist"),
+    DB("db"),
+    TREE_BUILD("tree-build"),
+    SERIALIZE("serialize"),
+    FILE_IO("file-io");
+
+    private final String metricName;
+}
@@ -1,26 +1,110 @@
 package ktb.community.be.global.util;
 
-import ktb.community.be.domain.post.domain.Post;
-import ktb.community.be.domain.image.domain.PostImage;
-import ktb.community.be.domain.member.domain.Member;
 import ktb.community.be.global.exception.CustomException;
 import ktb.community.be.global.exception.ErrorCode;
+import ktb.community.be.global.jfr.FileStoreEvent;
+import ktb.community.be.global.storage.ObjectStorage;
+import ktb.community.be.global.storage.PresignedRequest;
+import ktb.community.be.global.storage.StoredFileService;
+import ktb.community.be.global.storage.StoredObjectInfo;
+import ktb.community.be.global.timing.ServerTiming;
+import ktb.community.be.global.timing.TimingPhase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * 업로드 파일 저장 (저장소 구현은 ObjectStorage: 로컬 디스크 또는 S3 호환 저장소)
+ * - DB 에는 저장소와 무관한 /uploads/{key} 형식의 URL 만 기록
+ */
+@Slf4j
 @Service
 public class FileStorageService {
 
-    private static final String BASE_UPLOAD_DIR = System.getProperty("user.dir") + "/uploads/";
+    public static final String UPLOAD_URL_PREFIX = "/uploads/";
     private static final String PROFILE_SUB_DIR = "profile/";
     private static final String POST_SUB_DIR = "posts/";
+    // 직접 업로드 수신 위치 (검증 전 내용이라 /uploads/ 로 제공하지 않음, 검증 후 저장 키로 이동)
+    private static final String INCOMING_SUB_DIR = "incoming/";
+
+    private final ImageVariantService imageVariantService;
+    private final StoredFileService storedFileService;
+    private final ImageUploadValidator imageUploadValidator;
+    private final ObjectStorage objectStorage;
+    private final Counter dedupHitCounter;
+    private final Counter dedupSavedBytesCounter;
+    private final Timer storeTimer;
+    private final ExecutorService storeExecutor;
+    private final Semaphore storePermits;
+
+    public FileStorageService(ImageVariantService imageVariantService,
+                              StoredFileService storedFileService,
+                              ImageUploadValidator imageUploadValidator,
+                              ObjectStorage objectStorage,
+                              MeterRegistry meterRegistry,
+                              @Value("${upload.store.max-concurrency:4}") int maxConcurrency) {
+        this.imageVariantService = imageVariantService;
+        this.storedFileService = storedFileService;
+        this.imageUploadValidator = imageUploadValidator;
+        this.objectStorage = objectStorage;
+        this.storeExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("file-store-", 0).factory());
+        this.storePermits = new Semaphore(Math.max(1, maxConcurrency));
+        this.dedupHitCounter = Counter.builder("storage.dedup.hits")
+                .description("이미 저장된 내용과 같아 새로 저장하지 않은 업로드 수")
+                .register(meterRegistry);
+        this.dedupSavedBytesCounter = Counter.builder("storage.dedup.saved")
+                .baseUnit("bytes")
+                .description("중복 제거로 절약한 디스크 용량")
+                .register(meterRegistry);
+        this.storeTimer = Timer.builder("storage.file.write")
+                .description("업로드 파일 저장 시간 (검증, 해시 계산, 저장소 기록 포함)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 업로드 URL → 저장 키 (/uploads/posts/a.png → posts/a.png, 업로드 URL 이 아니면 empty)
+     */
+    public static Optional<String> storageKeyOf(String url) {
+        if (url == null || !url.startsWith(UPLOAD_URL_PREFIX)) return Optional.empty();
+        return Optional.of(url.substring(UPLOAD_URL_PREFIX.length()));
+    }
+
+    /**
+     * 내용 해시 기반 저장 키 ({subDir}/ab/cd/{sha256}.png)
+     */
+    public static String storageKeyOf(String subDir, String sha256, ImageType type) {
+        String normalizedSubDir = subDir.endsWith("/") ? subDir : subDir + "/";
+        return normalizedSubDir + shardedPath(sha256) + type.getExtension();
+    }
 
     /**
      * 프로필 이미지 저장
@@ -33,78 +117,292 @@ public class FileStorageService {
     }
 
     /**
-     * 게시글 이미지 여러 개 저장
+     * 여러 파일 동시 저장 (결과 URL 은 입력 순서 그대로)
+     * - 가상 스레드 + 동시 저장 수 제한 (upload.store.max-concurrency) → 디스크/DB 커넥션 사용량 보호
+     * - 하나라도 실패하면 나머지 저장이 끝나길 기다린 뒤 성공한 파일의 참조를 모두 해제 (전부 저장 또는 전부 취소)
+     * - 요청 스레드가 중단되어도 이미 시작한 저장은 끝까지 기다림 (저장 중 획득한 참조가 새지 않도록)
      */
-    public List<PostImage> storePostImages(List<MultipartFile> images, List<Integer> orderIndexes, Post post, Member member) {
-        if (images == null || images.isEmpty()) {
-            throw new CustomException(ErrorCode.INVALID_REQUEST, "게시글 이미지는 최소 1개 이상 필요합니다.");
+    public List<String> storeFiles(List<MultipartFile> files, String subDir) {
+        if (files.size() == 1) {
+            return List.of(storeFile(files.get(0), subDir));
         }
 
-        if (orderIndexes == null || orderIndexes.size() != images.size()) {
-            throw new CustomException(ErrorCode.IMAGE_ORDER_INDEX_MISMATCH);
+        // 실패/중단 후에는 아직 저장을 시작하지 않은 작업을 건너뜀
+        AtomicBoolean aborted = new AtomicBoolean();
+        List<Future<String>> futures = files.stream()
+                .map(file -> storeExecutor.submit(() -> storeWithPermit(file, subDir, aborted)))
+                .toList();
+
+        // 각 저장은 다른 스레드에서 실행 → 요청 스레드가 기다린 시간을 file-io 로 기록
+        long waitStartedAt = System.nanoTime();
+        List<String> imageUrls = new ArrayList<>(files.size());
+        RuntimeException failure = null;
+        boolean interrupted = false;
+        for (Future<String> future : futures) {
+            try {
+                imageUrls.add(future.get());
+            } catch (ExecutionException e) {
+                aborted.set(true);
+                if (failure == null) failure = unwrap(e.getCause());
+            } catch (InterruptedException e) {
+                aborted.set(true);
+                interrupted = true;
+                if (failure == null) failure = new CustomException(ErrorCode.FILE_UPLOAD_FAILED, "파일 저장이 중단되었습니다.");
+                break;
+            }
+        }
+
+        if (failure != null) {
+            // Future.cancel 은 실행 중인 작업의 결과(획득한 참조)를 버리므로 쓰지 않음
+            // → 남은 작업은 aborted 를 보고 바로 끝나고, 이미 저장 중인 작업은 끝까지 기다린 뒤 참조 해제
+            storedFileService.releaseAll(awaitStored(futures));
+        }
+        ServerTiming.record(TimingPhase.FILE_IO, waitStartedAt);
+        if (interrupted) Thread.currentThread().interrupt();
+
+        if (failure != null) {
+            throw failure;
         }
+        return imageUrls;
+    }
 
-        return IntStream.range(0, images.size())
-                .mapToObj(i -> savePostImage(images.get(i), post, member, orderIndexes.get(i)))
-                .collect(Collectors.toList());
+    private String storeWithPermit(MultipartFile file, String subDir, AtomicBoolean aborted) throws InterruptedException {
+        storePermits.acquire();
+        try {
+            if (aborted.get()) {
+                throw new CancellationException("다른 파일 저장이 실패하여 건너뜀");
+            }
+            return storeFile(file, subDir);
+        } finally {
+            storePermits.release();
+        }
     }
 
     /**
-     * 게시글 이미지 한 장 저장
+     * 모든 작업이 끝나길 기다려 저장에 성공한 URL 수집 (중간에 인터럽트되어도 계속 기다림)
      */
-    private PostImage savePostImage(MultipartFile file, Post post, Member member, int orderIndex) {
-        String savedFilePath = storeFile(file, POST_SUB_DIR);
-        return PostImage.builder()
-                .post(post)
-                .member(member)
-                .imageUrl(savedFilePath)
-                .orderIndex(orderIndex)
-                .isDeleted(false)
-                .build();
+    private static List<String> awaitStored(List<Future<String>> futures) {
+        List<String> storedUrls = new ArrayList<>(futures.size());
+        boolean interrupted = false;
+        for (Future<String> future : futures) {
+            while (true) {
+                try {
+                    storedUrls.add(future.get());
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException | CancellationException e) {
+                    break;
+                }
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+        return storedUrls;
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) return runtimeException;
+        return new CustomException(ErrorCode.FILE_UPLOAD_FAILED, "파일 저장 실패");
     }
 
     /**
      * 범용 파일 저장 메서드
+     * - 매직 바이트로 형식 판별 후 임시 파일로 스트리밍 (메모리에 파일 전체를 올리지 않음)
+     * - 형식별 용량 상한은 스트리밍 중에, 해상도 상한은 헤더만 읽어서 검사
+     * - 스트리밍하면서 SHA-256 계산 → 같은 내용은 한 번만 저장 (해시 기반 불변 URL)
+     * - 저장 후 변형본(썸네일, 중간 크기) 생성을 비동기로 예약
      */
     public String storeFile(MultipartFile file, String subDir) {
+        long startedAt = System.nanoTime();
+        FileStoreEvent event = new FileStoreEvent();
+        event.begin();
+        event.subDir = subDir;
+        Path tempFile = null;
+        String acquiredKey = null;
         try {
-            String uploadDir = BASE_UPLOAD_DIR + subDir;
-            ensureUploadDirExists(uploadDir);
+            tempFile = Files.createTempFile(objectStorage.tempDirectory(), "upload-", ".tmp");
 
-            String fileName = generateUniqueFileName(file);
-            String fullPath = uploadDir + fileName;
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            ImageType type;
+            long size;
+            try (BufferedInputStream buffered = new BufferedInputStream(file.getInputStream())) {
+                type = imageUploadValidator.sniff(buffered);
+                imageUploadValidator.validateDeclaredSize(file.getSize(), type);
+                try (InputStream in = new DigestInputStream(imageUploadValidator.limit(buffered, type), digest)) {
+                    size = Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            event.bytes = size;
+            imageUploadValidator.validateDimensions(tempFile, type);
+            String sha256 = HexFormat.of().formatHex(digest.digest());
 
-            file.transferTo(new File(fullPath));
+            // 확장자는 원본 파일명이 아닌 실제 형식 기준
+            String storageKey = storageKeyOf(subDir, sha256, type);
 
-            // DB에는 상대경로 (/uploads/posts/filename.png) 형식으로 반환
-            return "/uploads/" + subDir + fileName;
-        } catch (IOException e) {
+            // 참조를 먼저 추가 → 고아 파일 정리 작업이 같은 파일을 동시에 지우지 못함 (stored_file 행 잠금)
+            storedFileService.acquire(storageKey, sha256, size);
+            acquiredKey = storageKey;
+            if (!objectStorage.putIfAbsent(storageKey, tempFile, type.getContentType())) {
+                // 이미 같은 내용의 파일이 있음 → 새로 저장하지 않음
+                dedupHitCounter.increment();
+                dedupSavedBytesCounter.increment(size);
+                event.deduplicated = true;
+            }
+
+            // DB에는 상대경로 (/uploads/posts/ab/cd/{sha256}.png) 형식으로 반환
+            String url = UPLOAD_URL_PREFIX + storageKey;
+            imageVariantService.scheduleVariants(storageKey, url, variantTargetOf(storageKey));
+            event.success = true;
+            return url;
+        } catch (IOException | NoSuchAlgorithmException e) {
+            if (acquiredKey != null) {
+                storedFileService.release(UPLOAD_URL_PREFIX + acquiredKey);
+            }
             throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED, "파일 저장 실패: " + file.getOriginalFilename());
+        } finally {
+            deleteQuietly(tempFile);
+            storeTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            ServerTiming.record(TimingPhase.FILE_IO, startedAt);
+            event.commit();
         }
     }
 
     /**
-     * 저장 디렉토리 존재 확인 및 생성
+     * 저장 키의 파일명 부분 = 내용의 SHA-256 (posts/ab/cd/{sha256}.png → {sha256})
+     */
+    public static String contentHashOf(String storageKey) {
+        String fileName = storageKey.substring(storageKey.lastIndexOf('/') + 1);
+        int dot = fileName.indexOf('.');
+        return dot < 0 ? fileName : fileName.substring(0, dot);
+    }
+
+    /**
+     * 클라이언트가 저장소에 직접 올릴 수 있는 서명된 PUT 요청 발급
+     * - 선언한 형식/크기가 업로드 정책을 넘으면 서명하지 않음
+     */
+    public PresignedRequest presignUpload(String storageKey, ImageType type, long size, String sha256, Duration ttl) {
+        imageUploadValidator.validateDeclaredSize(size, type);
+        return objectStorage.presignPut(storageKey, type.getContentType(), size, sha256, ttl);
+    }
+
+    /**
+     * 직접 업로드 수신 키 (incoming/{token}/{sha256}.png)
+     */
+    public static String incomingKeyOf(String token, String storageKey) {
+        return INCOMING_SUB_DIR + token + "/" + storageKey.substring(storageKey.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * /uploads/ 로 제공하는 키인지 (게시글/프로필 이미지와 변형본만, 수신 중인 파일과 임시 파일은 제외)
      */
-    private void ensureUploadDirExists(String uploadDir) throws IOException {
-        File uploadDirFile = new File(uploadDir);
-        if (!uploadDirFile.exists()) {
-            boolean isCreated = uploadDirFile.mkdirs();
-            System.out.println("디렉토리 생성됨: " + uploadDirFile.getAbsolutePath() + " -> " + isCreated);
-            if (!isCreated) {
-                throw new IOException("업로드 디렉터리 생성 실패: " + uploadDir);
+    public static boolean isServedKey(String storageKey) {
+        return (storageKey.startsWith(POST_SUB_DIR) || storageKey.startsWith(PROFILE_SUB_DIR))
+                && !storageKey.contains("..");
+    }
+
+    /**
+     * 클라이언트가 저장소에 직접 올린 파일 검증 (형식, 용량, 해상도) 후 저장 키로 이동
+     * - 수신 키에 파일이 없으면 이미 저장된 같은 내용의 파일 사용 (presign 시 업로드 생략 또는 동시 업로드)
+     * - 검증에 실패하면 수신 키의 파일만 삭제 (다른 게시글이 공유하는 저장 키는 건드리지 않음)
+     */
+    public StoredObjectInfo verifyUploadedObject(String incomingKey, String storageKey) {
+        ImageType type = ImageType.fromFileName(storageKey)
+                .orElseThrow(() -> new CustomException(ErrorCode.UNSUPPORTED_IMAGE_TYPE));
+        try {
+            Optional<StoredObjectInfo> incoming = objectStorage.stat(incomingKey);
+            if (incoming.isEmpty()) {
+                return objectStorage.stat(storageKey)
+                        .orElseThrow(() -> new CustomException(ErrorCode.INVALID_UPLOAD_TOKEN, "업로드된 파일이 없습니다."));
             }
+
+            try (InputStream in = objectStorage.open(incomingKey)) {
+                imageUploadValidator.validateDeclaredSize(incoming.get().size(), type);
+                imageUploadValidator.validateHeader(in, type);
+            } catch (CustomException e) {
+                objectStorage.delete(incomingKey);
+                throw e;
+            }
+            objectStorage.moveIfAbsent(incomingKey, storageKey);
+            return incoming.get();
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED, "업로드 파일 확인 실패");
+        }
+    }
+
+    public boolean exists(String storageKey) {
+        try {
+            return objectStorage.stat(storageKey).isPresent();
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED, "업로드 파일 확인 실패");
+        }
+    }
+
+    /**
+     * 이미 저장된 파일의 변형본 생성/기록 예약
+     * - 변형본 파일이 이미 있으면 디코딩 없이 URL 만 기록
+     */
+    public void scheduleVariants(String url) {
+        storageKeyOf(url).ifPresent(storageKey ->
+                imageVariantService.scheduleVariants(storageKey, url, variantTargetOf(storageKey)));
+    }
+
+    private ImageVariantService.VariantTarget variantTargetOf(String storageKey) {
+        return storageKey.startsWith(PROFILE_SUB_DIR)
+                ? ImageVariantService.VariantTarget.PROFILE_IMAGE
+                : ImageVariantService.VariantTarget.POST_IMAGE;
+    }
+
+    /**
+     * 저장된 파일 키(incoming/, posts/, profile/ 하위)를 사전순으로 afterKey 다음부터 최대 limit 개 조회
+     * - incoming/ 은 complete 되지 않은 직접 업로드 → 참조가 없으므로 유예 기간 후 정리 대상
+     */
+    public List<String> listStoredKeys(String afterKey, int limit) throws IOException {
+        List<String> keys = new ArrayList<>(limit);
+        for (String subDir : List.of(INCOMING_SUB_DIR, POST_SUB_DIR, PROFILE_SUB_DIR)) {
+            if (keys.size() >= limit) break;
+            boolean afterInPrefix = afterKey != null && afterKey.startsWith(subDir);
+            if (afterKey != null && !afterInPrefix && afterKey.compareTo(subDir) > 0) continue;
+            keys.addAll(objectStorage.list(subDir, afterInPrefix ? afterKey : null, limit - keys.size()));
         }
+        return keys;
     }
 
     /**
-     * UUID 기반 고유 파일 경로 생성
+     * 저장된 파일의 마지막 수정 시각 (없거나 읽을 수 없으면 empty)
      */
-    private String generateUniqueFileName(MultipartFile file) {
-        String originalFilename = file.getOriginalFilename();
-        String extension = (originalFilename != null && originalFilename.contains("."))
-                ? originalFilename.substring(originalFilename.lastIndexOf("."))
-                : "";
-        return UUID.randomUUID() + extension;
+    public Optional<Instant> getLastModified(String storageKey) {
+        try {
+            return objectStorage.stat(storageKey).map(StoredObjectInfo::lastModified);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 저장된 파일 삭제
+     */
+    public boolean deleteStoredFile(String storageKey) throws IOException {
+        return objectStorage.delete(storageKey);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        storeExecutor.shutdown();
+    }
+
+    /**
+     * 해시 앞 4자리로 2단계 디렉토리 분산 (ab/cd/abcd...)
+     */
+    private static String shardedPath(String sha256) {
+        return sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256;
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) return;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path);
+        }
     }
 }
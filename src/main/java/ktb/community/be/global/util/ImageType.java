@@ -0,0 +1,76 @@
+package ktb.community.be.global.util;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 업로드 허용 이미지 형식 (파일 앞부분의 매직 바이트로 판별)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageType {
+
+    JPEG("image/jpeg", ".jpg"),
+    PNG("image/png", ".png"),
+    GIF("image/gif", ".gif"),
+    WEBP("image/webp", ".webp");
+
+    /**
+     * 판별에 필요한 최소 바이트 수 (WEBP: "RIFF" + 크기 4바이트 + "WEBP")
+     */
+    public static final int SIGNATURE_LENGTH = 12;
+
+    private final String contentType;
+    private final String extension;
+
+    /**
+     * 파일 앞부분 바이트로 형식 판별 (클라이언트가 보낸 파일명/Content-Type 은 신뢰하지 않음)
+     */
+    public static Optional<ImageType> detect(byte[] head, int length) {
+        if (length >= 3 && unsigned(head[0]) == 0xFF && unsigned(head[1]) == 0xD8 && unsigned(head[2]) == 0xFF) {
+            return Optional.of(JPEG);
+        }
+        if (length >= 8 && startsWith(head, 0, new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'})) {
+            return Optional.of(PNG);
+        }
+        if (length >= 6 && (startsWith(head, 0, "GIF87a".getBytes()) || startsWith(head, 0, "GIF89a".getBytes()))) {
+            return Optional.of(GIF);
+        }
+        if (length >= SIGNATURE_LENGTH && startsWith(head, 0, "RIFF".getBytes()) && startsWith(head, 8, "WEBP".getBytes())) {
+            return Optional.of(WEBP);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 저장 키/파일명의 확장자로 형식 조회 (직접 업로드 검증용)
+     */
+    public static Optional<ImageType> fromFileName(String fileName) {
+        String lower = fileName.toLowerCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(type -> lower.endsWith(type.extension))
+                .findFirst();
+    }
+
+    public static Optional<ImageType> fromContentType(String contentType) {
+        if (contentType == null) return Optional.empty();
+        return Arrays.stream(values())
+                .filter(type -> type.contentType.equalsIgnoreCase(contentType.trim()))
+                .findFirst();
+    }
+
+    private static boolean startsWith(byte[] head, int offset, byte[] signature) {
+        for (int i = 0; i < signature.length; i++) {
+            if (head[offset + i] != signature[i]) return false;
+        }
+        return true;
+    }
+
+    private static int unsigned(byte b) {
+        return b & 0xFF;
+    }
+}
@@ -0,0 +1,240 @@
+package ktb.community.be.global.util;
+
+import ktb.community.be.global.exception.CustomException;
+import ktb.community.be.global.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 업로드 이미지 검증
+ * - 형식: 매직 바이트로 판별 (JPEG, PNG, GIF, WEBP 만 허용)
+ * - 용량: 형식별 상한을 스트리밍 중에 검사 (상한을 넘는 순간 중단)
+ * - 해상도: 전체 디코딩 없이 헤더만 읽어서 가로/세로/총 픽셀 수 검사
+ * - multipart 업로드는 Tomcat 이 파트를 임시 파일로 다 받은 뒤에 검사가 시작되므로,
+ *   그 전 단계의 상한은 spring.servlet.multipart.max-file-size (형식별 상한 중 최댓값과 같게 유지)
+ */
+@Component
+public class ImageUploadValidator {
+
+    private final Map<ImageType, Long> maxBytesByType = new EnumMap<>(ImageType.class);
+    private final int maxDimension;
+    private final long maxPixels;
+
+    public ImageUploadValidator(@Value("${upload.image.max-bytes.jpeg:10MB}") DataSize jpegMaxBytes,
+                                @Value("${upload.image.max-bytes.png:10MB}") DataSize pngMaxBytes,
+                                @Value("${upload.image.max-bytes.gif:5MB}") DataSize gifMaxBytes,
+                                @Value("${upload.image.max-bytes.webp:10MB}") DataSize webpMaxBytes,
+                                @Value("${upload.image.max-dimension:10000}") int maxDimension,
+                                @Value("${upload.image.max-pixels:25000000}") long maxPixels) {
+        maxBytesByType.put(ImageType.JPEG, jpegMaxBytes.toBytes());
+        maxBytesByType.put(ImageType.PNG, pngMaxBytes.toBytes());
+        maxBytesByType.put(ImageType.GIF, gifMaxBytes.toBytes());
+        maxBytesByType.put(ImageType.WEBP, webpMaxBytes.toBytes());
+        this.maxDimension = maxDimension;
+        this.maxPixels = maxPixels;
+    }
+
+    /**
+     * 스트림 앞부분을 읽어 형식 판별 (mark/reset 으로 스트림 위치는 그대로 유지)
+     */
+    public ImageType sniff(BufferedInputStream in) throws IOException {
+        byte[] head = new byte[ImageType.SIGNATURE_LENGTH];
+        in.mark(head.length);
+        int length = in.readNBytes(head, 0, head.length);
+        in.reset();
+        return ImageType.detect(head, length)
+                .orElseThrow(() -> new CustomException(ErrorCode.UNSUPPORTED_IMAGE_TYPE));
+    }
+
+    /**
+     * 형식별 용량 상한을 넘으면 읽는 도중 예외를 던지는 스트림으로 감쌈
+     */
+    public InputStream limit(InputStream in, ImageType type) {
+        long maxBytes = maxBytes(type);
+        return new FilterInputStream(in) {
+            private long count;
+
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b >= 0) count(1);
+                return b;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                int n = super.read(buffer, offset, length);
+                if (n > 0) count(n);
+                return n;
+            }
+
+            private void count(long n) {
+                count += n;
+                if (count > maxBytes) {
+                    throw new CustomException(ErrorCode.IMAGE_TOO_LARGE);
+                }
+            }
+        };
+    }
+
+    /**
+     * 선언된 크기(Content-Length)만으로 이미 상한을 넘는 경우 읽기 전에 거절
+     */
+    public void validateDeclaredSize(long size, ImageType type) {
+        if (size > maxBytes(type)) {
+            throw new CustomException(ErrorCode.IMAGE_TOO_LARGE);
+        }
+    }
+
+    /**
+     * 저장된 파일의 헤더만 읽어서 해상도 검사
+     */
+    public void validateDimensions(Path file, ImageType type) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            validateDimensions(in, type);
+        }
+    }
+
+    /**
+     * 저장소에 직접 올라온 파일의 매직 바이트와 해상도 검사 (스트림 앞부분만 읽음)
+     */
+    public void validateHeader(InputStream in, ImageType expectedType) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(in);
+        if (sniff(buffered) != expectedType) {
+            throw new CustomException(ErrorCode.UNSUPPORTED_IMAGE_TYPE, "파일 내용과 형식이 일치하지 않습니다.");
+        }
+        validateDimensions(buffered, expectedType);
+    }
+
+    private void validateDimensions(InputStream stream, ImageType type) throws IOException {
+        int[] size;
+        try {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+            size = switch (type) {
+                case JPEG -> readJpegSize(in);
+                case PNG -> readPngSize(in);
+                case GIF -> readGifSize(in);
+                case WEBP -> readWebpSize(in);
+            };
+        } catch (EOFException e) {
+            throw new CustomException(ErrorCode.UNSUPPORTED_IMAGE_TYPE, "이미지 헤더가 손상되었습니다.");
+        }
+
+        int width = size[0];
+        int height = size[1];
+        if (width <= 0 || height <= 0) {
+            throw new CustomException(ErrorCode.UNSUPPORTED_IMAGE_TYPE, "이미지 헤더가 손상되었습니다.");
+        }
+        if (width > maxDimension || height > maxDimension || (long) width * height > maxPixels) {
+            throw new CustomException(ErrorCode.IMAGE_DIMENSION_EXCEEDED);
+        }
+    }
+
+    private long maxBytes(ImageType type) {
+        return maxBytesByType.get(type);
+    }
+
+    /**
+     * JPEG: 마커 세그먼트를 길이만큼 건너뛰며 SOF 마커에서 크기 추출
+     */
+    private int[] readJpegSize(DataInputStream in) throws IOException {
+        in.skipNBytes(2); // SOI
+        while (true) {
+            int b = in.readUnsignedByte();
+            if (b != 0xFF) {
+                throw new CustomException(ErrorCode.UNSUPPORTED_IMAGE_TYPE, "이미지 헤더가 손상되었습니다.");
+            }
+            int marker = in.readUnsignedByte();
+            while (marker == 0xFF) { // 채움 바이트
+                marker = in.readUnsignedByte();
+            }
+            if (marker == 0xD8 || marker == 0x01 || (marker >= 0xD0 && marker <= 0xD7)) {
+                continue; // 길이가 없는 마커
+            }
+            if (marker == 0xDA || marker == 0xD9) {
+                // SOF 없이 스캔 데이터/끝에 도달
+                throw new CustomException(ErrorCode.UNSUPPORTED_IMAGE_TYPE, "이미지 헤더가 손상되었습니다.");
+            }
+            int length = in.readUnsignedShort();
+            if (isStartOfFrame(marker)) {
+                in.skipNBytes(1); // precision
+                int height = in.readUnsignedShort();
+                int width = in.readUnsignedShort();
+                return new int[]{width, height};
+            }
+            in.skipNBytes(length - 2);
+        }
+    }
+
+    private boolean isStartOfFrame(int marker) {
+        return marker >= 0xC0 && marker <= 0xCF && marker != 0xC4 && marker != 0xC8 && marker != 0xCC;
+    }
+
+    /**
+     * PNG: 시그니처(8) + IHDR 길이/타입(8) 다음 width, height (big endian)
+     */
+    private int[] readPngSize(DataInputStream in) throws IOException {
+        in.skipNBytes(16);
+        return new int[]{in.readInt(), in.readInt()};
+    }
+
+    /**
+     * GIF: 시그니처(6) 다음 논리 화면 width, height (little endian)
+     */
+    private int[] readGifSize(DataInputStream in) throws IOException {
+        in.skipNBytes(6);
+        return new int[]{readUnsignedShortLe(in), readUnsignedShortLe(in)};
+    }
+
+    /**
+     * WEBP: 첫 청크 종류(VP8 / VP8L / VP8X)에 따라 크기 위치가 다름
+     */
+    private int[] readWebpSize(DataInputStream in) throws IOException {
+        in.skipNBytes(12);
+        byte[] chunkType = in.readNBytes(4);
+        in.skipNBytes(4); // chunk size
+        switch (new String(chunkType)) {
+            case "VP8 " -> {
+                in.skipNBytes(6); // frame tag(3) + start code(3)
+                int width = readUnsignedShortLe(in) & 0x3FFF;
+                int height = readUnsignedShortLe(in) & 0x3FFF;
+                return new int[]{width, height};
+            }
+            case "VP8L" -> {
+                in.skipNBytes(1); // signature
+                int b0 = in.readUnsignedByte();
+                int b1 = in.readUnsignedByte();
+                int b2 = in.readUnsignedByte();
+                int b3 = in.readUnsignedByte();
+                int width = 1 + (b0 | (b1 & 0x3F) << 8);
+                int height = 1 + ((b1 >> 6) | b2 << 2 | (b3 & 0x0F) << 10);
+                return new int[]{width, height};
+            }
+            case "VP8X" -> {
+                in.skipNBytes(4); // flags + reserved
+                return new int[]{1 + readUnsigned24Le(in), 1 + readUnsigned24Le(in)};
+            }
+            default -> throw new CustomException(ErrorCode.UNSUPPORTED_IMAGE_TYPE, "이미지 헤더가 손상되었습니다.");
+        }
+    }
+
+    private int readUnsignedShortLe(DataInputStream in) throws IOException {
+        return in.readUnsignedByte() | in.readUnsignedByte() << 8;
+    }
+
+    private int readUnsigned24Le(DataInputStream in) throws IOException {
+        return in.readUnsignedByte() | in.readUnsignedByte() << 8 | in.readUnsignedByte() << 16;
+    }
+}
@@ -0,0 +1,58 @@
+package ktb.community.be.global.util;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 업로드 이미지의 고정 너비 변형본 (원본 파일명 뒤에 _{suffix} 를 붙여 같은 디렉토리에 저장)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+
+    THUMBNAIL("thumbnail", 200),
+    MEDIUM("medium", 800);
+
+    private final String suffix;
+    private final int width;
+
+    /**
+     * size 파라미터 값으로 변형 조회 (original 또는 알 수 없는 값이면 empty)
+     */
+    public static Optional<ImageVariant> fromParameter(String size) {
+        if (size == null) return Optional.empty();
+        return Arrays.stream(values())
+                .filter(variant -> variant.suffix.equalsIgnoreCase(size))
+                .findFirst();
+    }
+
+    /**
+     * 원본 경로/URL → 변형본 경로/URL (/uploads/posts/a.png → /uploads/posts/a_thumbnail.png)
+     */
+    public String applyTo(String originalPath) {
+        int slash = originalPath.lastIndexOf('/');
+        int dot = originalPath.lastIndexOf('.');
+        if (dot <= slash) {
+            return originalPath + "_" + suffix;
+        }
+        return originalPath.substring(0, dot) + "_" + suffix + originalPath.substring(dot);
+    }
+
+    /**
+     * 변형본 경로/URL → 원본 경로/URL (변형본이 아니면 empty)
+     */
+    public static Optional<String> originalOf(String path) {
+        int slash = path.lastIndexOf('/');
+        int dot = path.lastIndexOf('.');
+        String base = dot > slash ? path.substring(0, dot) : path;
+        String extension = dot > slash ? path.substring(dot) : "";
+        return Arrays.stream(values())
+                .map(variant -> "_" + variant.suffix)
+                .filter(base::endsWith)
+                .findFirst()
+                .map(suffix -> base.substring(0, base.length() - suffix.length()) + extension);
+    }
+}
@@ -0,0 +1,234 @@
+package ktb.community.be.global.util;
+
+import jakarta.annotation.PreDestroy;
+import ktb.community.be.domain.image.dao.PostImageRepository;
+import ktb.community.be.domain.member.dao.MemberRepository;
+import ktb.community.be.global.storage.ObjectStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 업로드 후 이미지 변형본(썸네일, 중간 크기) 비동기 생성
+ * - 요청 스레드는 작업만 등록하고 바로 반환 (트랜잭션 커밋 이후 실행)
+ * - 가상 스레드 실행기 + 대기 작업 수/동시 리사이즈 수 제한 (CPU 사용량 보호)
+ * - 순수 Java ImageIO 사용, 변형본은 원본과 같은 저장소에 저장하고 결과는 PostImage / Member 프로필에 기록
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private static final Set<String> WRITABLE_FORMATS = Set.of("jpg", "jpeg", "png", "gif", "bmp", "tif", "tiff");
+
+    private final ObjectStorage objectStorage;
+    private final PostImageRepository postImageRepository;
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final Semaphore pendingPermits;
+    private final Semaphore resizePermits;
+
+    public ImageVariantService(ObjectStorage objectStorage,
+                               PostImageRepository postImageRepository,
+                               MemberRepository memberRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${image.variant.max-pending:256}") int maxPending,
+                               @Value("${image.variant.max-concurrency:0}") int maxConcurrency) {
+        this.objectStorage = objectStorage;
+        this.postImageRepository = postImageRepository;
+        this.memberRepository = memberRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("image-variant-", 0).factory());
+        this.pendingPermits = new Semaphore(maxPending);
+        this.resizePermits = new Semaphore(maxConcurrency > 0 ? maxConcurrency : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 저장된 원본 이미지의 변형본 생성 예약 (현재 트랜잭션이 있으면 커밋 후 실행)
+     */
+    public void scheduleVariants(String originalKey, String originalUrl, VariantTarget target) {
+        Runnable submit = () -> submit(originalKey, originalUrl, target);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit.run();
+                }
+            });
+        } else {
+            submit.run();
+        }
+    }
+
+    private void submit(String originalKey, String originalUrl, VariantTarget target) {
+        // 대기열이 가득 차면 변형본 생성 생략 (원본은 그대로 제공됨)
+        if (!pendingPermits.tryAcquire()) {
+            log.warn("[이미지 변형 생략] 대기 작업 초과 url={}", originalUrl);
+            return;
+        }
+
+        executor.execute(() -> {
+            try {
+                resizePermits.acquire();
+                try {
+                    Map<ImageVariant, String> variantUrls = createVariants(originalKey, originalUrl);
+                    if (!variantUrls.isEmpty()) {
+                        recordVariants(originalUrl, variantUrls, target);
+                    }
+                } finally {
+                    resizePermits.release();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.warn("[이미지 변형 실패] url={}, error={}", originalUrl, e.getMessage());
+            } finally {
+                pendingPermits.release();
+            }
+        });
+    }
+
+    private Map<ImageVariant, String> createVariants(String originalKey, String originalUrl) throws IOException {
+        Map<ImageVariant, String> variantUrls = new EnumMap<>(ImageVariant.class);
+
+        // 같은 내용의 파일이 이미 처리된 경우 (중복 업로드) → 디코딩 없이 기존 변형본 사용
+        boolean allExist = true;
+        for (ImageVariant variant : ImageVariant.values()) {
+            allExist &= objectStorage.stat(variant.applyTo(originalKey)).isPresent();
+        }
+        if (allExist) {
+            for (ImageVariant variant : ImageVariant.values()) {
+                variantUrls.put(variant, variant.applyTo(originalUrl));
+            }
+            return variantUrls;
+        }
+
+        BufferedImage original;
+        try (InputStream in = objectStorage.open(originalKey)) {
+            original = ImageIO.read(in);
+        }
+        if (original == null) {
+            // ImageIO 로 읽을 수 없는 형식 (webp 등) → 원본만 제공
+            return variantUrls;
+        }
+
+        String format = outputFormat(originalKey);
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (original.getWidth() <= variant.getWidth()) {
+                // 원본이 더 작으면 확대하지 않고 원본 사용
+                variantUrls.put(variant, originalUrl);
+                continue;
+            }
+
+            String variantKey = variant.applyTo(originalKey);
+            if (objectStorage.stat(variantKey).isEmpty()) {
+                store(resize(original, variant.getWidth(), format), format, variantKey);
+            }
+            variantUrls.put(variant, variant.applyTo(originalUrl));
+        }
+        return variantUrls;
+    }
+
+    private void recordVariants(String originalUrl, Map<ImageVariant, String> variantUrls, VariantTarget target) {
+        String thumbnailUrl = variantUrls.get(ImageVariant.THUMBNAIL);
+        String mediumUrl = variantUrls.get(ImageVariant.MEDIUM);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (target == VariantTarget.POST_IMAGE) {
+                postImageRepository.updateVariantUrls(originalUrl, thumbnailUrl, mediumUrl);
+            } else {
+                memberRepository.updateProfileVariantUrls(originalUrl, thumbnailUrl, mediumUrl);
+            }
+        });
+    }
+
+    private static BufferedImage resize(BufferedImage source, int targetWidth, String format) {
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+        boolean keepAlpha = source.getColorModel().hasAlpha() && !format.equals("jpg") && !format.equals("jpeg");
+        int type = keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        // 큰 비율 축소는 절반씩 단계적으로 줄여 품질 유지
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(width / 2, targetWidth);
+            height = width == targetWidth ? targetHeight : Math.max(height / 2, targetHeight);
+
+            BufferedImage scaled = new BufferedImage(width, height, type);
+            Graphics2D graphics = scaled.createGraphics();
+            try {
+                if (!keepAlpha) {
+                    graphics.setColor(Color.WHITE);
+                    graphics.fillRect(0, 0, width, height);
+                }
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = scaled;
+        } while (width != targetWidth);
+
+        return current;
+    }
+
+    private void store(BufferedImage image, String format, String variantKey) throws IOException {
+        // 임시 파일에 쓴 뒤 저장소로 이동 → 생성 중인 파일이 제공되지 않도록
+        Path temp = Files.createTempFile(objectStorage.tempDirectory(), ".variant-", ".tmp");
+        try {
+            if (!ImageIO.write(image, format, temp.toFile())) {
+                throw new IOException("지원하지 않는 이미지 형식: " + format);
+            }
+            String contentType = MediaTypeFactory.getMediaType(variantKey)
+                    .map(MediaType::toString)
+                    .orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+            objectStorage.putIfAbsent(variantKey, temp, contentType);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String outputFormat(String key) {
+        String name = key.substring(key.lastIndexOf('/') + 1);
+        int dot = name.lastIndexOf('.');
+        String extension = dot < 0 ? "" : name.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return WRITABLE_FORMATS.contains(extension) ? extension : "png";
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 변형본 URL 을 기록할 대상
+     */
+    public enum VariantTarget {
+        POST_IMAGE,
+        PROFILE_IMAGE
+    }
+}
@@ -0,0 +1,82 @@
+package ktb.community.be.domain.image.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 정렬 키 생성 규칙 검증
+ */
+class RankKeyTests {
+
+    @Test
+    void betweenAdjacentDigitsAddsDigit() {
+        String key = RankKey.between("a", "b");
+
+        assertThat(key).isGreaterThan("a").isLessThan("b");
+        assertThat(key).startsWith("a").hasSize(2);
+    }
+
+    @Test
+    void betweenWithNullBoundsAppendsOrPrepends() {
+        String last = RankKey.between("z", null);
+        String first = RankKey.between(null, "1");
+
+        assertThat(last).isGreaterThan("z");
+        assertThat(first).isLessThan("1");
+        assertThat(RankKey.between(null, null)).isNotEmpty();
+    }
+
+    @Test
+    void betweenWhenBeforeIsLongerThanAfter() {
+        String key = RankKey.between("a5zz", "b");
+
+        assertThat(key).isGreaterThan("a5zz").isLessThan("b");
+    }
+
+    @Test
+    void betweenWhenAfterExtendsBefore() {
+        String key = RankKey.between("a", "a1");
+
+        assertThat(key).isGreaterThan("a").isLessThan("a1");
+        assertThat(key).doesNotEndWith("0");
+    }
+
+    @Test
+    void repeatedInsertionKeepsOrder() {
+        String low = "a";
+        String high = "b";
+        for (int i = 0; i < 50; i++) {
+            String key = RankKey.between(low, high);
+            assertThat(key).isGreaterThan(low).isLessThan(high).doesNotEndWith("0");
+            high = key;
+        }
+    }
+
+    @Test
+    void betweenRejectsEqualOrReversedKeys() {
+        assertThatThrownBy(() -> RankKey.between("a", "a")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RankKey.between("b", "a")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void sequenceIsStrictlyIncreasing() {
+        for (int count : new int[]{0, 1, 2, 17, 18, 1_000}) {
+            List<String> keys = RankKey.sequence(count);
+
+            assertThat(keys).hasSize(count).doesNotHaveDuplicates().isSorted();
+            assertThat(keys).allSatisfy(key -> assertThat(key).doesNotEndWith("0"));
+        }
+    }
+
+    @Test
+    void sequenceLeavesRoomAtBothEnds() {
+        List<String> keys = RankKey.sequence(3);
+
+        assertThat(RankKey.between(null, keys.getFirst())).isLessThan(keys.getFirst());
+        assertThat(RankKey.between(keys.getLast(), null)).isGreaterThan(keys.getLast());
+    }
+}
@@ -0,0 +1,70 @@
+package ktb.community.be.domain.post.application;
+
+import jakarta.persistence.EntityManager;
+import ktb.community.be.domain.like.domain.PostLike;
+import ktb.community.be.domain.member.domain.Member;
+import ktb.community.be.domain.post.domain.Post;
+import ktb.community.be.domain.post.dto.PostListResponseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static ktb.community.be.global.query.QueryCountAssertions.assertQueryBudget;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 조회 SQL 예산 (게시글 수와 무관하게 고정)
+ */
+@SpringBootTest
+@Transactional
+class PostQueryBudgetTests {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void postListRunsSingleQueryRegardlessOfPageSize() {
+        Member writer = persistMember();
+        Member liker = persistMember();
+        for (int i = 0; i < 5; i++) {
+            Post post = Post.builder()
+                    .member(writer)
+                    .title("title " + i)
+                    .content("content " + i)
+                    .viewCount(0)
+                    .commentCount(0)
+                    .build();
+            entityManager.persist(post);
+            entityManager.persist(PostLike.builder().post(post).member(liker).isDeleted(false).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<PostListResponseDto> posts = new ArrayList<>();
+        assertQueryBudget(1, () -> posts.addAll(postService.getAllPosts(null, null, PageRequest.of(0, 5))));
+
+        assertThat(posts).hasSize(5).allSatisfy(post -> assertThat(post.getLikeCount()).isEqualTo(1));
+    }
+
+    private Member persistMember() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Member member = Member.builder()
+                .email(suffix + "@test.com")
+                .password("password")
+                .nickname("m" + suffix)
+                .profileImageUrl("/uploads/default.png")
+                .isActive(true)
+                .build();
+        entityManager.persist(member);
+        return member;
+    }
+}
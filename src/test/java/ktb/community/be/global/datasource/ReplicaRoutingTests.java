@@ -0,0 +1,86 @@
+package ktb.community.be.global.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 DB 두 개(Primary 용, 복제본 용)로 라우팅 동작 검증
+ * - REPLICA_TEST_URL 이 있을 때만 실행 (예: jdbc:mysql://localhost:3307/community), 복제는 필요 없음
+ * - 두 DB 를 DATABASE() / @@port 로 구분
+ */
+@EnabledIfEnvironmentVariable(named = "REPLICA_TEST_URL", matches = ".+")
+@SpringBootTest(properties = {
+        "datasource.replica.url=${REPLICA_TEST_URL}",
+        "datasource.replica.lag-check-enabled=false",
+        "archive.enabled=false"
+})
+class ReplicaRoutingTests {
+
+    private static final String WHO_AM_I = "SELECT CONCAT(@@port, '/', DATABASE())";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        replicaLagMonitor.update(0L);
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplicaAndWritesToPrimary() {
+        assertThat(whoAmI(true)).isNotEqualTo(whoAmI(false));
+    }
+
+    @Test
+    void memberReadsOwnWritesFromPrimaryRightAfterWriting() {
+        String replica = whoAmI(true);
+        String primary = whoAmI(false);
+
+        authenticate(System.nanoTime());
+        assertThat(whoAmI(true)).isEqualTo(replica);
+
+        whoAmI(false); // 쓰기 트랜잭션 커밋
+        assertThat(whoAmI(true)).isEqualTo(primary);
+    }
+
+    @Test
+    void readsFallBackToPrimaryWhenReplicaLags() {
+        String primary = whoAmI(false);
+
+        replicaLagMonitor.update(null);
+
+        assertThat(whoAmI(true)).isEqualTo(primary);
+    }
+
+    private String whoAmI(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        return template.execute(status -> jdbcTemplate.queryForObject(WHO_AM_I, String.class));
+    }
+
+    private void authenticate(long memberId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(String.valueOf(memberId), null, List.of()));
+    }
+}
@@ -0,0 +1,67 @@
+package ktb.community.be.global.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 시간순 ID 발급 규칙 검증 (DB 없이 가짜 시계 사용)
+ */
+class TimeSortedIdsTests {
+
+    private static final long NOW = Instant.parse("2026-01-01T00:00:00Z").toEpochMilli();
+
+    @Test
+    void idsIncreaseEvenWhenClockGoesBackwards() {
+        AtomicLong clock = new AtomicLong(NOW);
+        TimeSortedIds ids = new TimeSortedIds(3, clock::get);
+
+        long first = ids.next();
+        clock.set(NOW - 5_000);
+        long second = ids.next();
+        clock.set(NOW + 1);
+        long third = ids.next();
+
+        assertThat(first).isLessThan(second);
+        assertThat(second).isLessThan(third);
+    }
+
+    @Test
+    void sequenceOverflowMovesToNextMillisecond() {
+        TimeSortedIds ids = new TimeSortedIds(0, () -> NOW);
+
+        long previous = -1;
+        for (int i = 0; i < 1_000; i++) {
+            long id = ids.next();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+        assertThat(TimeSortedIds.timestampOf(previous)).isAfter(Instant.ofEpochMilli(NOW));
+    }
+
+    @Test
+    void idsFitInJavaScriptSafeIntegerAndCarryTimestamp() {
+        long id = new TimeSortedIds(TimeSortedIds.MAX_NODE_ID, () -> NOW).next();
+
+        assertThat(id).isPositive().isLessThanOrEqualTo((1L << 53) - 1);
+        assertThat(TimeSortedIds.timestampOf(id)).isEqualTo(Instant.ofEpochMilli(NOW));
+    }
+
+    @Test
+    void differentNodesNeverCollideInSameMillisecond() {
+        long a = new TimeSortedIds(1, () -> NOW).next();
+        long b = new TimeSortedIds(2, () -> NOW).next();
+
+        assertThat(a).isNotEqualTo(b);
+    }
+
+    @Test
+    void rejectsNodeIdOutOfRange() {
+        assertThatThrownBy(() -> new TimeSortedIds(TimeSortedIds.MAX_NODE_ID + 1, () -> NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
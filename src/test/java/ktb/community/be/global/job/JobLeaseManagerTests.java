@@ -0,0 +1,141 @@
+package ktb.community.be.global.job;
+
+import ktb.community.be.BeApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 DB 를 바라보는 두 애플리케이션 컨텍스트(노드)로 리스 동작 검증
+ */
+class JobLeaseManagerTests {
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode("node-a");
+        nodeB = startNode("node-b");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeA != null) nodeA.close();
+        if (nodeB != null) nodeB.close();
+    }
+
+    @Test
+    void onlyOneNodeRunsTheJob() {
+        String jobName = uniqueJobName();
+        AtomicBoolean nodeBExecuted = new AtomicBoolean(true);
+
+        boolean nodeAExecuted = leaseManager(nodeA).runExclusively(jobName, Duration.ofSeconds(5), lease ->
+                nodeBExecuted.set(leaseManager(nodeB).runExclusively(jobName, Duration.ofSeconds(5), other -> {})));
+
+        assertThat(nodeAExecuted).isTrue();
+        assertThat(nodeBExecuted).isFalse();
+    }
+
+    @Test
+    void otherNodeTakesOverExpiredLeaseAndFencesOldLeader() throws InterruptedException {
+        String jobName = uniqueJobName();
+
+        // 하트비트 없이 획득 → 리더가 죽은 상황
+        JobLeaseHandle leaderLease = leaseManager(nodeA).tryAcquire(jobName, Duration.ofMillis(500)).orElseThrow();
+        assertThat(leaseManager(nodeB).tryAcquire(jobName, Duration.ofSeconds(5))).isEmpty();
+
+        Thread.sleep(700);
+
+        Optional<JobLeaseHandle> takeover = leaseManager(nodeB).tryAcquire(jobName, Duration.ofSeconds(5));
+        assertThat(takeover).isPresent();
+        assertThat(takeover.get().getFencingToken()).isGreaterThan(leaderLease.getFencingToken());
+
+        TransactionTemplate tx = new TransactionTemplate(nodeA.getBean(PlatformTransactionManager.class));
+        assertThatThrownBy(() -> tx.executeWithoutResult(status -> leaseManager(nodeA).verifyHeld(leaderLease)))
+                .isInstanceOf(LeaseLostException.class);
+    }
+
+    @Test
+    void holderCannotReacquireItsOwnLease() {
+        String jobName = uniqueJobName();
+
+        JobLeaseHandle lease = leaseManager(nodeA).tryAcquire(jobName, Duration.ofSeconds(5)).orElseThrow();
+        assertThat(leaseManager(nodeA).tryAcquire(jobName, Duration.ofSeconds(5))).isEmpty();
+
+        TransactionTemplate tx = new TransactionTemplate(nodeA.getBean(PlatformTransactionManager.class));
+        tx.executeWithoutResult(status -> leaseManager(nodeA).verifyHeld(lease));
+    }
+
+    @Test
+    void concurrentAcquireGrantsExactlyOneLeaseWithoutErrors() throws Exception {
+        String jobName = uniqueJobName();
+        int attempts = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(attempts);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Optional<JobLeaseHandle>>> results = new ArrayList<>();
+            for (int i = 0; i < attempts; i++) {
+                JobLeaseManager manager = leaseManager(i % 2 == 0 ? nodeA : nodeB);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return manager.tryAcquire(jobName, Duration.ofSeconds(5));
+                }));
+            }
+            start.countDown();
+
+            int acquired = 0;
+            for (Future<Optional<JobLeaseHandle>> result : results) {
+                if (result.get().isPresent()) acquired++;
+            }
+            assertThat(acquired).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void releasedLeaseIsHeldUntilMinimumHoldElapses() throws InterruptedException {
+        String jobName = uniqueJobName();
+
+        assertThat(leaseManager(nodeA).runExclusively(jobName, Duration.ofSeconds(5), Duration.ofMillis(700), lease -> {}))
+                .isTrue();
+        assertThat(leaseManager(nodeB).tryAcquire(jobName, Duration.ofSeconds(5))).isEmpty();
+
+        Thread.sleep(900);
+
+        assertThat(leaseManager(nodeB).tryAcquire(jobName, Duration.ofSeconds(5))).isPresent();
+    }
+
+    private static ConfigurableApplicationContext startNode(String nodeId) {
+        return new SpringApplicationBuilder(BeApplication.class)
+                .properties("job.lease.node-id=" + nodeId, "server.port=0")
+                .run();
+    }
+
+    private static JobLeaseManager leaseManager(ConfigurableApplicationContext context) {
+        return context.getBean(JobLeaseManager.class);
+    }
+
+    private static String uniqueJobName() {
+        return "test-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
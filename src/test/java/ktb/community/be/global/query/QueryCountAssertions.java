@@ -0,0 +1,35 @@
+package ktb.community.be.global.query;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트에서 엔드포인트/서비스별 SQL 예산을 고정하기 위한 검증 도우미
+ * - 예: QueryCountAssertions.assertQueryBudget(2, () -> postService.getAllPosts(null, null, page));
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    /**
+     * SQL 수가 maxStatements 이하이고 같은 형태의 SQL 이 반복되지 않는지 검증
+     */
+    public static QueryCount assertQueryBudget(int maxStatements, Runnable action) {
+        QueryCount count = QueryCounter.count(action);
+        assertThat(count.total())
+                .as("SQL 수 (형태별: %s)", count.repeatedShapes(1))
+                .isLessThanOrEqualTo(maxStatements);
+        assertNoRepeatedShapes(count, 2);
+        return count;
+    }
+
+    /**
+     * threshold 번 이상 반복된 SQL 형태가 없는지 검증 (N+1)
+     */
+    public static void assertNoRepeatedShapes(QueryCount count, int threshold) {
+        Map<String, Integer> repeated = count.repeatedShapes(threshold);
+        assertThat(repeated).as("N+1 의심 SQL").isEmpty();
+    }
+}
@@ -0,0 +1,124 @@
+package ktb.community.be.global.storage;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * S3 호환 서버(MinIO 등)에 대한 저장소 동작 검증
+ * - S3_TEST_ENDPOINT 가 있을 때만 실행 (예: docker run -p 9000:9000 minio/minio server /data)
+ * - 자격 증명: S3_TEST_ACCESS_KEY / S3_TEST_SECRET_KEY (기본값 minioadmin)
+ */
+@EnabledIfEnvironmentVariable(named = "S3_TEST_ENDPOINT", matches = ".+")
+class S3ObjectStorageTests {
+
+    private static final String BUCKET = "community-test-" + UUID.randomUUID().toString().substring(0, 8);
+
+    private static S3Client s3Client;
+    private static S3Presigner s3Presigner;
+    private static S3ObjectStorage storage;
+    private static Path tempDirectory;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        URI endpoint = URI.create(System.getenv("S3_TEST_ENDPOINT"));
+        var credentials = StaticCredentialsProvider.create(AwsBasicCredentials.create(
+                env("S3_TEST_ACCESS_KEY", "minioadmin"), env("S3_TEST_SECRET_KEY", "minioadmin")));
+        var configuration = S3Configuration.builder().pathStyleAccessEnabled(true).build();
+
+        s3Client = S3Client.builder().endpointOverride(endpoint).region(Region.US_EAST_1)
+                .credentialsProvider(credentials).serviceConfiguration(configuration).build();
+        s3Presigner = S3Presigner.builder().endpointOverride(endpoint).region(Region.US_EAST_1)
+                .credentialsProvider(credentials).serviceConfiguration(configuration).build();
+        s3Client.createBucket(builder -> builder.bucket(BUCKET));
+
+        tempDirectory = Files.createTempDirectory("s3-storage-test");
+        storage = new S3ObjectStorage(s3Client, s3Presigner, BUCKET, tempDirectory.toString());
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (s3Client == null) return;
+        try {
+            s3Client.listObjectsV2(builder -> builder.bucket(BUCKET)).contents()
+                    .forEach(object -> s3Client.deleteObject(builder -> builder.bucket(BUCKET).key(object.key())));
+            s3Client.deleteBucket(builder -> builder.bucket(BUCKET));
+        } catch (SdkException ignored) {
+            // 테스트 버킷 정리 실패는 무시
+        }
+        s3Client.close();
+        s3Presigner.close();
+    }
+
+    @Test
+    void putIfAbsentStoresOnlyOnce() throws IOException {
+        String key = "posts/aa/bb/" + UUID.randomUUID() + ".png";
+
+        assertThat(storage.putIfAbsent(key, tempFile("first"), "image/png")).isTrue();
+        assertThat(storage.putIfAbsent(key, tempFile("second"), "image/png")).isFalse();
+
+        try (InputStream in = storage.open(key)) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("first");
+        }
+        assertThat(storage.stat(key)).hasValueSatisfying(info -> assertThat(info.size()).isEqualTo(5));
+    }
+
+    @Test
+    void listReturnsKeysAfterStartKeyInOrder() throws IOException {
+        String prefix = "list-" + UUID.randomUUID() + "/";
+        for (String name : new String[]{"c", "a", "b"}) {
+            storage.putIfAbsent(prefix + name, tempFile(name), "text/plain");
+        }
+
+        assertThat(storage.list(prefix, null, 10)).containsExactly(prefix + "a", prefix + "b", prefix + "c");
+        assertThat(storage.list(prefix, prefix + "a", 1)).containsExactly(prefix + "b");
+    }
+
+    @Test
+    void deleteRemovesObject() throws IOException {
+        String key = "posts/cc/dd/" + UUID.randomUUID() + ".png";
+        storage.putIfAbsent(key, tempFile("data"), "image/png");
+
+        storage.delete(key);
+
+        assertThat(storage.stat(key)).isEmpty();
+    }
+
+    @Test
+    void presignedPutCarriesLengthAndChecksum() {
+        String sha256 = "a".repeat(64);
+        PresignedRequest request = storage.presignPut("posts/aa/aa/" + sha256 + ".png", "image/png", 100, sha256, Duration.ofMinutes(5));
+
+        assertThat(request.method()).isEqualTo("PUT");
+        assertThat(request.url()).contains(BUCKET);
+        assertThat(request.headers().keySet()).anyMatch(name -> name.equalsIgnoreCase("x-amz-checksum-sha256"));
+    }
+
+    private static Path tempFile(String content) throws IOException {
+        return Files.writeString(Files.createTempFile(tempDirectory, "src-", ".tmp"), content);
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
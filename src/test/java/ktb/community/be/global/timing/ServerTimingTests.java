@@ -0,0 +1,52 @@
+package ktb.community.be.global.timing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Server-Timing 헤더 값 형식과 수집 범위 검증
+ */
+class ServerTimingTests {
+
+    @AfterEach
+    void tearDown() {
+        ServerTiming.stop();
+    }
+
+    @Test
+    void headerListsRecordedPhasesInOrderWithCountsAndTotal() {
+        ServerTiming timing = ServerTiming.start();
+        long now = System.nanoTime();
+        ServerTiming.record(TimingPhase.SERIALIZE, now);
+        ServerTiming.record(TimingPhase.DB, now);
+        ServerTiming.record(TimingPhase.DB, now);
+
+        String header = timing.toHeaderValue();
+
+        assertThat(header).matches("db;desc=\"x2\";dur=\\d+\\.\\d{2}, serialize;dur=\\d+\\.\\d{2}, total;dur=\\d+\\.\\d{2}");
+    }
+
+    @Test
+    void recordOutsideRequestIsIgnored() {
+        ServerTiming.record(TimingPhase.DB, System.nanoTime());
+
+        ServerTiming timing = ServerTiming.start();
+
+        assertThat(timing.toHeaderValue()).startsWith("total;dur=");
+    }
+
+    @Test
+    void adminAuthorityAllowsHeader() {
+        ServerTiming timing = ServerTiming.start();
+        ServerTiming.authorize(new UsernamePasswordAuthenticationToken("1", "",
+                List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+
+        assertThat(timing.isAdmin()).isTrue();
+    }
+}